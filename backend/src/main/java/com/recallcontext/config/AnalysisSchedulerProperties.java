@@ -0,0 +1,37 @@
+package com.recallcontext.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "processing.scheduler")
+@Data
+public class AnalysisSchedulerProperties {
+
+    // Number of concurrent AI analyses
+    private int workers = 2;
+
+    // Waiting this long is worth one priority level, so low priority work cannot starve
+    private Duration agingStep = Duration.ofSeconds(10);
+
+    // Most levels aging can add, so work of a priority this much higher always goes first
+    private int maxAgingLevels = 15;
+
+    // Concurrent analyses per tenant unless the tenant sets its own cap
+    private int defaultTenantMaxConcurrent = 2;
+
+    // Priority for meeting types without an explicit entry (higher runs first)
+    private int defaultPriority = 5;
+
+    // Priority per meeting type
+    private Map<String, Integer> priorities = new HashMap<>();
+
+    public int priorityOf(String meetingType) {
+        return priorities.getOrDefault(meetingType, defaultPriority);
+    }
+}
@@ -0,0 +1,14 @@
+package com.recallcontext.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "api.batch")
+@Data
+public class BatchReadProperties {
+
+    // Most ids a single batch read may request
+    private int maxIds = 100;
+}
@@ -0,0 +1,30 @@
+package com.recallcontext.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "changes")
+@Data
+public class ChangeFeedProperties {
+
+    // Longest wait for a notification before checking for new events anyway
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    // How long a missing event id may hold back later events; an earlier transaction may still commit
+    private Duration gapGrace = Duration.ofSeconds(10);
+
+    // Most events replayed to a reconnecting client; beyond this it is told to reload
+    private int replayLimit = 1000;
+
+    // Open streams are closed after this long; EventSource clients reconnect with Last-Event-ID
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+
+    // Events older than this are purged
+    private Duration retention = Duration.ofDays(7);
+}
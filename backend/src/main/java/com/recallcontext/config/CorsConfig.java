@@ -1,7 +1,9 @@
 package com.recallcontext.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -12,8 +14,11 @@ import java.util.List;
 @Configuration
 public class CorsConfig {
 
+    // First filter, so every response, including rejections by later filters, carries CORS headers
+    public static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
     @Bean
-    public CorsFilter corsFilter() {
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         CorsConfiguration config = new CorsConfiguration();
 
@@ -34,7 +39,22 @@ public class CorsConfig {
                 "Content-Type",
                 "Accept",
                 "Authorization",
-                "X-Requested-With"
+                "X-Requested-With",
+                "Idempotency-Key",
+                "X-Tenant-Id",
+                "X-User-Id",
+                "Range",
+                "If-None-Match",
+                "Last-Event-ID"
+        ));
+
+        // Headers readable by the browser
+        config.setExposedHeaders(List.of(
+                "Idempotent-Replayed",
+                "Retry-After",
+                "Content-Range",
+                "Accept-Ranges",
+                "ETag"
         ));
 
         // Allowed methods
@@ -51,6 +71,8 @@ public class CorsConfig {
         config.setMaxAge(3600L);
 
         source.registerCorsConfiguration("/**", config);
-        return new CorsFilter(source);
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(source));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
     }
 }
@@ -0,0 +1,28 @@
+package com.recallcontext.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+@Component
+@ConfigurationProperties(prefix = "reminders")
+@Data
+public class ReminderProperties {
+
+    // Schedule due-date reminders for open action items
+    private boolean enabled = true;
+
+    // Reminders fire this long before time-of-day on the due date
+    private Duration leadTime = Duration.ofDays(1);
+    private LocalTime timeOfDay = LocalTime.of(9, 0);
+
+    // Write reminders to the application log
+    private boolean logEnabled = true;
+
+    // POST reminders as JSON to this URL when set
+    private String webhookUrl;
+    private Duration webhookTimeout = Duration.ofSeconds(10);
+}
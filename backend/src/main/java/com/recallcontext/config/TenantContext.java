@@ -0,0 +1,62 @@
+package com.recallcontext.config;
+
+/**
+ * Tenant and user of the current request, bound to the request thread
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT_KEY = "default";
+    public static final String DEFAULT_USER_ID = "default-user";
+
+    private static final ThreadLocal<Current> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static void set(Long tenantId, String tenantKey, String userId) {
+        set(tenantId, tenantKey, userId, false);
+    }
+
+    /**
+     * @param named whether the request named the tenant explicitly rather than falling back to the default
+     */
+    public static void set(Long tenantId, String tenantKey, String userId, boolean named) {
+        CURRENT.set(new Current(tenantId, tenantKey, userId, named));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static Long getTenantId() {
+        return require().tenantId();
+    }
+
+    public static String getTenantKey() {
+        return require().tenantKey();
+    }
+
+    public static String getUserId() {
+        return require().userId();
+    }
+
+    /**
+     * Whether the request explicitly named this tenant; a request that fell back to the default
+     * tenant never matches, so privileged operations cannot be reached without naming their tenant
+     */
+    public static boolean isNamedTenant(String tenantKey) {
+        Current current = require();
+        return current.named() && current.tenantKey().equals(tenantKey);
+    }
+
+    private static Current require() {
+        Current current = CURRENT.get();
+        if (current == null) {
+            throw new IllegalStateException("No tenant bound to the current thread");
+        }
+        return current;
+    }
+
+    private record Current(Long tenantId, String tenantKey, String userId, boolean named) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.recallcontext.config;
+
+import com.recallcontext.model.entity.Tenant;
+import com.recallcontext.service.TenantService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Binds the tenant and user named by the request headers, falling back to the default tenant
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantContextInterceptor implements HandlerInterceptor {
+
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+    public static final String USER_HEADER = "X-User-Id";
+
+    private final TenantService tenantService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tenantKey = request.getHeader(TENANT_HEADER);
+        String userId = request.getHeader(USER_HEADER);
+
+        Tenant tenant = tenantService.resolve(
+                StringUtils.hasText(tenantKey) ? tenantKey : TenantContext.DEFAULT_TENANT_KEY);
+        TenantContext.set(
+                tenant.getId(),
+                tenant.getTenantKey(),
+                StringUtils.hasText(userId) ? userId : TenantContext.DEFAULT_USER_ID,
+                StringUtils.hasText(tenantKey));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TenantContext.clear();
+    }
+}
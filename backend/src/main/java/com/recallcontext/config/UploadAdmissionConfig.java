@@ -0,0 +1,29 @@
+package com.recallcontext.config;
+
+import com.recallcontext.service.UploadAdmissionService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+@Configuration
+public class UploadAdmissionConfig {
+
+    /**
+     * Admission control for the upload endpoint, ahead of multipart parsing and after CORS, so a
+     * rejection still carries the CORS headers the browser needs to read it. Archive imports are
+     * admitted by MeetingImportService against their own budget.
+     */
+    @Bean
+    public FilterRegistrationBean<UploadAdmissionFilter> uploadAdmissionFilter(
+            UploadAdmissionService uploadAdmissionService,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver
+    ) {
+        FilterRegistrationBean<UploadAdmissionFilter> registration = new FilterRegistrationBean<>(
+                new UploadAdmissionFilter(uploadAdmissionService, handlerExceptionResolver));
+        registration.addUrlPatterns("/api/v1/meetings");
+        registration.setOrder(CorsConfig.FILTER_ORDER + 1);
+        return registration;
+    }
+}
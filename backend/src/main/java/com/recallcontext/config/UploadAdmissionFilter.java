@@ -0,0 +1,51 @@
+package com.recallcontext.config;
+
+import com.recallcontext.exception.UploadCapacityExceededException;
+import com.recallcontext.service.UploadAdmissionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * Admits transcript uploads before their body is read, releasing the slot when the request completes.
+ * A servlet filter rather than an interceptor, because the DispatcherServlet parses multipart bodies
+ * before any interceptor runs. Rejections go through the MVC exception handlers so they get the usual
+ * ErrorResponse and Retry-After.
+ */
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private final UploadAdmissionService admissionService;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public UploadAdmissionFilter(UploadAdmissionService admissionService, HandlerExceptionResolver exceptionResolver) {
+        this.admissionService = admissionService;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        UploadAdmissionService.Permit permit;
+        try {
+            permit = admissionService.acquire(request.getContentLengthLong());
+        } catch (UploadCapacityExceededException e) {
+            exceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        try (permit) {
+            chain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.recallcontext.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "ingestion.watch")
+@Data
+public class WatchedFolderProperties {
+
+    // Start the watched-folder ingestion daemon
+    private boolean enabled = false;
+
+    // Directories to watch for new transcripts
+    private List<String> directories = new ArrayList<>();
+
+    // Tenant and user that ingested meetings belong to
+    private String tenant = TenantContext.DEFAULT_TENANT_KEY;
+    private String user = TenantContext.DEFAULT_USER_ID;
+
+    // A file must be quiet and unchanged in size for this long before it is ingested
+    private Duration debounce = Duration.ofSeconds(5);
+
+    // Concurrent ingestions (analysis concurrency is still bounded by the analysis workers)
+    private int workers = 2;
+
+    // Subdirectories that ingested files are moved to
+    private String processedDirectory = "processed";
+    private String failedDirectory = "failed";
+}
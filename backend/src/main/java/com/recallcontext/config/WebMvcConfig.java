@@ -0,0 +1,20 @@
+package com.recallcontext.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final TenantContextInterceptor tenantContextInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Tenant resolution runs first so later interceptors see the caller's tenant
+        registry.addInterceptor(tenantContextInterceptor)
+                .addPathPatterns("/api/**");
+    }
+}
@@ -1,8 +1,13 @@
 package com.recallcontext.controller;
 
+import com.recallcontext.model.dto.ActionItemBatchResponse;
 import com.recallcontext.model.dto.ActionItemResponse;
+import com.recallcontext.model.dto.ActionSearchRequest;
 import com.recallcontext.model.dto.ActionUpdateRequest;
+import com.recallcontext.model.dto.BulkActionUpdateRequest;
+import com.recallcontext.model.dto.BulkActionUpdateResponse;
 import com.recallcontext.service.ActionService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -11,6 +16,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/actions")
 @RequiredArgsConstructor
@@ -34,6 +41,26 @@ public class ActionController {
         return ResponseEntity.ok(actions);
     }
 
+    /**
+     * Search actions by status, assignee, priority, due-date range, meeting type and series
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<ActionItemResponse>> searchActions(
+            @ModelAttribute ActionSearchRequest filter,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(actionService.searchActions(filter, page, size));
+    }
+
+    /**
+     * Get several actions by ID, e.g. {@code ?ids=3,1,2}
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<ActionItemBatchResponse> getActionsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(actionService.getActionsByIds(ids));
+    }
+
     /**
      * Get action by ID
      */
@@ -55,6 +82,16 @@ public class ActionController {
         return ResponseEntity.ok(action);
     }
 
+    /**
+     * Update many actions at once; each change carries the version it was based on
+     */
+    @PatchMapping
+    public ResponseEntity<BulkActionUpdateResponse> bulkUpdateActions(
+            @Valid @RequestBody BulkActionUpdateRequest request
+    ) {
+        return ResponseEntity.ok(actionService.bulkUpdateActions(request));
+    }
+
     /**
      * Update action status only
      */
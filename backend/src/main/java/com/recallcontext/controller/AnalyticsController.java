@@ -0,0 +1,58 @@
+package com.recallcontext.controller;
+
+import com.recallcontext.model.dto.AnalyticsExportResponse;
+import com.recallcontext.model.dto.SentimentTrendResponse;
+import com.recallcontext.service.AnalyticsExportService;
+import com.recallcontext.service.SummaryTrendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    private final AnalyticsExportService analyticsExportService;
+    private final SummaryTrendService summaryTrendService;
+
+    /**
+     * Run the incremental analytics export of all tenants now (admin tenant only)
+     */
+    @PostMapping("/export")
+    public ResponseEntity<AnalyticsExportResponse> exportChanges() {
+        log.info("Received on-demand analytics export request");
+        return ResponseEntity.ok(analyticsExportService.exportChangesOnDemand());
+    }
+
+    /**
+     * Sentiment or tone counts per week or month, per meeting type or series
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<SentimentTrendResponse> getTrends(
+            @RequestParam(defaultValue = "WEEK") String granularity,
+            @RequestParam(defaultValue = "MEETING_TYPE") String dimension,
+            @RequestParam(required = false) String value,
+            @RequestParam(defaultValue = "SENTIMENT") String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(summaryTrendService.getTrends(granularity, dimension, value, metric, from, to));
+    }
+
+    /**
+     * Rebuild the trend rollups from stored summaries
+     */
+    @PostMapping("/trends/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildTrends() {
+        log.info("Received request to rebuild trend rollups");
+        return ResponseEntity.ok(Map.of("rows", summaryTrendService.rebuildCurrentTenant()));
+    }
+}
@@ -0,0 +1,32 @@
+package com.recallcontext.controller;
+
+import com.recallcontext.model.dto.CalendarHeatmapResponse;
+import com.recallcontext.service.CalendarHeatmapService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/calendar")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class CalendarController {
+
+    private final CalendarHeatmapService calendarHeatmapService;
+
+    /**
+     * Meetings and action activity per day
+     */
+    @GetMapping("/heatmap")
+    public ResponseEntity<CalendarHeatmapResponse> getHeatmap(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(calendarHeatmapService.getHeatmap(from, to));
+    }
+}
@@ -0,0 +1,30 @@
+package com.recallcontext.controller;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * Stream the tenant's meeting and action item changes as server-sent events. Reconnecting clients
+     * send Last-Event-ID (or lastEventId when they cannot set headers) to receive what they missed.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) Long lastEventIdParam
+    ) {
+        Long lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return changeFeedService.subscribe(TenantContext.getTenantId(), lastEventId);
+    }
+}
@@ -0,0 +1,64 @@
+package com.recallcontext.controller;
+
+import com.recallcontext.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@RestController
+@RequestMapping("/api/v1/export")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Stream all meetings with summaries and participants as NDJSON or CSV
+     */
+    @GetMapping("/meetings")
+    public void exportMeetings(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        log.info("Received meetings export request ({})", exportFormat);
+
+        exportService.exportMeetings(exportFormat, () -> prepare(response, exportFormat, "meetings"));
+    }
+
+    /**
+     * Stream all action items as NDJSON or CSV
+     */
+    @GetMapping("/actions")
+    public void exportActionItems(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response
+    ) throws IOException {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        log.info("Received action items export request ({})", exportFormat);
+
+        exportService.exportActionItems(exportFormat, () -> prepare(response, exportFormat, "action-items"));
+    }
+
+    /**
+     * Set the export's status and headers once it has a slot, returning the body stream
+     */
+    private OutputStream prepare(HttpServletResponse response, ExportService.Format format, String name)
+            throws IOException {
+        boolean csv = format == ExportService.Format.CSV;
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(csv ? "text/csv;charset=UTF-8" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + (csv ? ".csv" : ".ndjson") + "\"");
+        return response.getOutputStream();
+    }
+}
@@ -1,18 +1,44 @@
 package com.recallcontext.controller;
 
+import com.recallcontext.model.dto.AnalysisQueueResponse;
+import com.recallcontext.model.dto.BulkReprocessResponse;
+import com.recallcontext.model.dto.MeetingBatchResponse;
+import com.recallcontext.model.dto.MeetingCardReconcileResponse;
 import com.recallcontext.model.dto.MeetingResponse;
+import com.recallcontext.model.dto.MeetingSearchRequest;
+import com.recallcontext.model.dto.MeetingSearchResponse;
 import com.recallcontext.model.dto.MeetingUploadRequest;
 import com.recallcontext.model.dto.ProcessingStatusResponse;
+import com.recallcontext.model.dto.UploadCapacityResponse;
+import com.recallcontext.service.AnalysisScheduler;
+import com.recallcontext.service.MeetingCardReconciliationService;
+import com.recallcontext.service.MeetingImportService;
+import com.recallcontext.service.MeetingRecoveryService;
 import com.recallcontext.service.MeetingService;
+import com.recallcontext.service.TranscriptSpoolService;
+import com.recallcontext.service.UploadAdmissionService;
+import com.recallcontext.service.UploadIdempotencyService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/meetings")
@@ -22,45 +48,185 @@ import org.springframework.web.bind.annotation.*;
 public class MeetingController {
 
     private final MeetingService meetingService;
+    private final MeetingRecoveryService meetingRecoveryService;
+    private final MeetingCardReconciliationService meetingCardReconciliationService;
+    private final UploadAdmissionService uploadAdmissionService;
+    private final AnalysisScheduler analysisScheduler;
+    private final TranscriptSpoolService transcriptSpoolService;
+    private final MeetingImportService meetingImportService;
 
     /**
      * Upload a new meeting transcript
      */
-    @PostMapping
-    public ResponseEntity<MeetingResponse> uploadTranscript(@Valid @RequestBody MeetingUploadRequest request) {
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MeetingResponse> uploadTranscript(
+            @Valid @RequestBody MeetingUploadRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        UploadIdempotencyService.validateKey(idempotencyKey);
         log.info("Received transcript upload request: {}", request.getFilename());
 
-        MeetingResponse response = meetingService.uploadTranscript(
+        MeetingService.UploadOutcome outcome = meetingService.uploadTranscript(
                 request.getFilename(),
-                request.getContent()
+                request.getContent(),
+                idempotencyKey
         );
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return toUploadResponse(outcome);
+    }
+
+    /**
+     * Upload a transcript file as multipart/form-data (optionally gzip-compressed)
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<MeetingResponse> uploadTranscriptFile(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "filename", required = false) String filename,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey
+    ) throws IOException {
+        UploadIdempotencyService.validateKey(idempotencyKey);
+        String name = filename != null ? filename : file.getOriginalFilename();
+        boolean gzip = "application/gzip".equals(file.getContentType()) || (name != null && name.endsWith(".gz"));
+        if (gzip && name != null && name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - ".gz".length());
+        }
+        log.info("Received multipart transcript upload: {} ({} bytes)", name, file.getSize());
+
+        try (InputStream body = file.getInputStream();
+             TranscriptSpoolService.SpooledTranscript spooled = transcriptSpoolService.spool(body, gzip)) {
+            return toUploadResponse(meetingService.uploadTranscript(name, spooled, idempotencyKey));
+        }
     }
 
     /**
-     * Get all meetings (paginated)
+     * Upload a raw transcript body as text/plain, or gzip via Content-Encoding or application/gzip
+     */
+    @PostMapping(consumes = {MediaType.TEXT_PLAIN_VALUE, "application/gzip"})
+    public ResponseEntity<MeetingResponse> uploadTranscriptBody(
+            @RequestParam("filename") String filename,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            InputStream body
+    ) throws IOException {
+        UploadIdempotencyService.validateKey(idempotencyKey);
+        boolean gzip = "gzip".equalsIgnoreCase(contentEncoding) || contentType.startsWith("application/gzip");
+        log.info("Received streamed transcript upload: {}", filename);
+
+        try (TranscriptSpoolService.SpooledTranscript spooled = transcriptSpoolService.spool(body, gzip)) {
+            return toUploadResponse(meetingService.uploadTranscript(filename, spooled, idempotencyKey));
+        }
+    }
+
+    /**
+     * Bulk import a zip, tar or tar.gz archive of transcripts, streaming an NDJSON result per file
+     */
+    @PostMapping(
+            value = "/import",
+            consumes = {"application/zip", "application/x-tar", "application/gzip", MediaType.APPLICATION_OCTET_STREAM_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public void importArchive(InputStream body, HttpServletResponse response) throws IOException {
+        log.info("Received bulk archive import request");
+        meetingImportService.admit();
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        meetingImportService.importArchive(body, response.getOutputStream());
+    }
+
+    /**
+     * Get upload admission limits and current queue depth
+     */
+    @GetMapping("/upload-capacity")
+    public ResponseEntity<UploadCapacityResponse> getUploadCapacity() {
+        return ResponseEntity.ok(uploadAdmissionService.getCapacity());
+    }
+
+    /**
+     * Get analysis worker utilisation and queue depth by meeting type
+     */
+    @GetMapping("/analysis-queue")
+    public ResponseEntity<AnalysisQueueResponse> getAnalysisQueue() {
+        return ResponseEntity.ok(analysisScheduler.getQueueStatus());
+    }
+
+    /**
+     * Get all meetings (paginated). {@code include} limits the sub-resources loaded per meeting.
      */
     @GetMapping
     public ResponseEntity<Page<MeetingResponse>> getAllMeetings(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String include
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<MeetingResponse> meetings = meetingService.getAllMeetings(pageable);
+        Page<MeetingResponse> meetings = meetingService.getAllMeetings(pageable, MeetingService.Include.parse(include));
 
         return ResponseEntity.ok(meetings);
     }
 
     /**
-     * Get meeting by ID
+     * Search meetings by type, series, date range, processing status and participant, newest first.
+     * Follow {@code nextCursor} for further pages.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<MeetingSearchResponse> searchMeetings(
+            @ModelAttribute MeetingSearchRequest filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String include
+    ) {
+        return ResponseEntity.ok(meetingService.searchMeetings(filter, cursor, size, MeetingService.Include.parse(include)));
+    }
+
+    /**
+     * Get several meetings by ID, e.g. {@code ?ids=3,1,2}, with the same {@code include} as a single read
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<MeetingBatchResponse> getMeetingsByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String include
+    ) {
+        return ResponseEntity.ok(meetingService.getMeetingsByIds(ids, MeetingService.Include.parse(include)));
+    }
+
+    /**
+     * Get meeting by ID. {@code include} limits the sub-resources loaded.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<MeetingResponse> getMeetingById(@PathVariable Long id) {
-        MeetingResponse meeting = meetingService.getMeetingById(id);
+    public ResponseEntity<MeetingResponse> getMeetingById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String include
+    ) {
+        MeetingResponse meeting = meetingService.getMeetingById(id, MeetingService.Include.parse(include));
         return ResponseEntity.ok(meeting);
     }
 
+    /**
+     * Stream a meeting's transcript as UTF-8 text. Supports Range requests for paging through long
+     * transcripts and If-None-Match revalidation against the content hash; large responses are gzipped.
+     */
+    @GetMapping(value = "/{id}/transcript", produces = "text/plain;charset=UTF-8")
+    public ResponseEntity<Resource> getTranscript(@PathVariable Long id, WebRequest request) {
+        String contentHash = meetingService.getTranscriptHash(id);
+        // Tomcat never gzips a response with a strong ETag. Full responses get a weak one so they can be
+        // compressed; Range responses keep a strong one, so their byte offsets stay those of the plain text
+        // and If-Range can validate them. If-None-Match compares weakly, so either form revalidates.
+        boolean ranged = request.getHeader(HttpHeaders.RANGE) != null;
+        String etag = (ranged ? "" : "W/") + "\"" + contentHash + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        // Range handling and Content-Length come from Spring's Resource support
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(meetingService.openTranscript(contentHash));
+    }
+
     /**
      * Get processing status
      */
@@ -70,6 +236,27 @@ public class MeetingController {
         return ResponseEntity.ok(status);
     }
 
+    /**
+     * Queue FAILED meetings for reprocessing from their stored transcripts, without waiting for the analyses
+     */
+    @PostMapping("/reprocess-failed")
+    public ResponseEntity<BulkReprocessResponse> reprocessFailedMeetings(
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("Received bulk reprocess request (limit: {})", limit);
+        BulkReprocessResponse response = meetingRecoveryService.reprocessFailedMeetings(limit);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Check the denormalized list card fields of the tenant's meetings and correct any drift
+     */
+    @PostMapping("/reconcile-cards")
+    public ResponseEntity<MeetingCardReconcileResponse> reconcileCards() {
+        log.info("Received meeting card reconciliation request");
+        return ResponseEntity.ok(meetingCardReconciliationService.reconcileCurrentTenant());
+    }
+
     /**
      * Delete meeting
      */
@@ -78,4 +265,14 @@ public class MeetingController {
         meetingService.deleteMeeting(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<MeetingResponse> toUploadResponse(MeetingService.UploadOutcome outcome) {
+        if (outcome.isReplayed()) {
+            return ResponseEntity.ok()
+                    .header("Idempotent-Replayed", "true")
+                    .body(outcome.getMeeting());
+        }
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(outcome.getMeeting());
+    }
 }
@@ -0,0 +1,57 @@
+package com.recallcontext.controller;
+
+import com.recallcontext.model.dto.PersonAliasRequest;
+import com.recallcontext.model.dto.PersonResponse;
+import com.recallcontext.model.dto.PersonTimelineResponse;
+import com.recallcontext.service.PersonService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/people")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class PersonController {
+
+    private final PersonService personService;
+
+    /**
+     * Get the people directory (paginated)
+     */
+    @GetMapping
+    public ResponseEntity<Page<PersonResponse>> getPeople(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(personService.getPeople(PageRequest.of(page, size)));
+    }
+
+    /**
+     * Get the meetings a person attended and the actions assigned to them
+     */
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<PersonTimelineResponse> getTimeline(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(personService.getTimeline(id, limit));
+    }
+
+    /**
+     * Resolve another name to this person
+     */
+    @PostMapping("/{id}/aliases")
+    public ResponseEntity<PersonResponse> addAlias(
+            @PathVariable Long id,
+            @Valid @RequestBody PersonAliasRequest request
+    ) {
+        log.info("Received request to add alias to person {}", id);
+        return ResponseEntity.ok(personService.addAlias(id, request.getAlias()));
+    }
+}
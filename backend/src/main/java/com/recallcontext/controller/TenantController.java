@@ -0,0 +1,54 @@
+package com.recallcontext.controller;
+
+import com.recallcontext.model.dto.TenantRequest;
+import com.recallcontext.model.dto.TenantResponse;
+import com.recallcontext.model.dto.TenantUpdateRequest;
+import com.recallcontext.service.TenantService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tenants")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class TenantController {
+
+    private final TenantService tenantService;
+
+    /**
+     * Get all tenants
+     */
+    @GetMapping
+    public ResponseEntity<List<TenantResponse>> getAllTenants() {
+        return ResponseEntity.ok(tenantService.getAllTenants());
+    }
+
+    /**
+     * Create tenant
+     */
+    @PostMapping
+    public ResponseEntity<TenantResponse> createTenant(@Valid @RequestBody TenantRequest request) {
+        log.info("Received request to create tenant {}", request.getTenantKey());
+        TenantResponse tenant = tenantService.createTenant(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(tenant);
+    }
+
+    /**
+     * Update tenant name and scheduling share
+     */
+    @PutMapping("/{tenantKey}")
+    public ResponseEntity<TenantResponse> updateTenant(
+            @PathVariable String tenantKey,
+            @Valid @RequestBody TenantUpdateRequest request
+    ) {
+        TenantResponse tenant = tenantService.updateTenant(tenantKey, request);
+        return ResponseEntity.ok(tenant);
+    }
+}
@@ -0,0 +1,50 @@
+package com.recallcontext.controller;
+
+import com.recallcontext.model.dto.CompressionBenchmarkResponse;
+import com.recallcontext.model.dto.TranscriptDictionaryResponse;
+import com.recallcontext.service.TranscriptDictionaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/transcript-dictionaries")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class TranscriptDictionaryController {
+
+    private final TranscriptDictionaryService dictionaryService;
+
+    /**
+     * Get the latest compression dictionary of every meeting type
+     */
+    @GetMapping
+    public ResponseEntity<List<TranscriptDictionaryResponse>> getDictionaries() {
+        return ResponseEntity.ok(dictionaryService.getDictionaries());
+    }
+
+    /**
+     * Train a new dictionary version for a meeting type
+     */
+    @PostMapping("/{meetingType}")
+    public ResponseEntity<TranscriptDictionaryResponse> trainDictionary(@PathVariable String meetingType) {
+        log.info("Received request to train {} transcript dictionary", meetingType);
+        return ResponseEntity.status(HttpStatus.CREATED).body(dictionaryService.train(meetingType));
+    }
+
+    /**
+     * Benchmark the meeting type's dictionary against Postgres TOAST on recent transcripts
+     */
+    @GetMapping("/{meetingType}/benchmark")
+    public ResponseEntity<CompressionBenchmarkResponse> benchmark(
+            @PathVariable String meetingType,
+            @RequestParam(defaultValue = "50") int samples
+    ) {
+        return ResponseEntity.ok(dictionaryService.benchmark(meetingType, Math.min(Math.max(samples, 1), 500)));
+    }
+}
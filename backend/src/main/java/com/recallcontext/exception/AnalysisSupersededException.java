@@ -0,0 +1,7 @@
+package com.recallcontext.exception;
+
+public class AnalysisSupersededException extends RuntimeException {
+    public AnalysisSupersededException(String message) {
+        super(message);
+    }
+}
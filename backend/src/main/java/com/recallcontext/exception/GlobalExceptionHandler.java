@@ -3,8 +3,10 @@ package com.recallcontext.exception;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,6 +32,54 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(TenantNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTenantNotFound(TenantNotFoundException ex) {
+        log.error("Tenant not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(
+                        "TENANT_NOT_FOUND",
+                        ex.getMessage(),
+                        HttpStatus.NOT_FOUND.value()
+                ));
+    }
+
+    @ExceptionHandler(TenantAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleTenantAlreadyExists(TenantAlreadyExistsException ex) {
+        log.warn("Tenant already exists: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(
+                        "TENANT_ALREADY_EXISTS",
+                        ex.getMessage(),
+                        HttpStatus.CONFLICT.value()
+                ));
+    }
+
+    @ExceptionHandler(PersonNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePersonNotFound(PersonNotFoundException ex) {
+        log.error("Person not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(
+                        "PERSON_NOT_FOUND",
+                        ex.getMessage(),
+                        HttpStatus.NOT_FOUND.value()
+                ));
+    }
+
+    @ExceptionHandler(OperationNotPermittedException.class)
+    public ResponseEntity<ErrorResponse> handleOperationNotPermitted(OperationNotPermittedException ex) {
+        log.warn("Operation not permitted: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse(
+                        "OPERATION_NOT_PERMITTED",
+                        ex.getMessage(),
+                        HttpStatus.FORBIDDEN.value()
+                ));
+    }
+
     @ExceptionHandler(InvalidFilenameException.class)
     public ResponseEntity<ErrorResponse> handleInvalidFilename(InvalidFilenameException ex) {
         log.error("Invalid filename: {}", ex.getMessage());
@@ -42,6 +92,138 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidIdempotencyKey(InvalidIdempotencyKeyException ex) {
+        log.warn("Invalid idempotency key: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        "INVALID_IDEMPOTENCY_KEY",
+                        ex.getMessage(),
+                        HttpStatus.BAD_REQUEST.value()
+                ));
+    }
+
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        log.warn("Idempotency conflict: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(
+                        "IDEMPOTENCY_CONFLICT",
+                        ex.getMessage(),
+                        HttpStatus.CONFLICT.value()
+                ));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(
+                        "CONCURRENT_MODIFICATION",
+                        "The resource was modified by another request; reload it and try again",
+                        HttpStatus.CONFLICT.value()
+                ));
+    }
+
+    @ExceptionHandler(UploadCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleUploadCapacityExceeded(UploadCapacityExceededException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(
+                        "UPLOAD_CAPACITY_EXCEEDED",
+                        ex.getMessage(),
+                        HttpStatus.TOO_MANY_REQUESTS.value()
+                ));
+    }
+
+    @ExceptionHandler(ExportCapacityExceededException.class)
+    public ResponseEntity<ErrorResponse> handleExportCapacityExceeded(ExportCapacityExceededException ex) {
+        log.warn("Export rejected: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new ErrorResponse(
+                        "EXPORT_CAPACITY_EXCEEDED",
+                        ex.getMessage(),
+                        HttpStatus.TOO_MANY_REQUESTS.value()
+                ));
+    }
+
+    @ExceptionHandler(InvalidExportRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidExportRequest(InvalidExportRequestException ex) {
+        log.error("Invalid export request: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        "INVALID_EXPORT_REQUEST",
+                        ex.getMessage(),
+                        HttpStatus.BAD_REQUEST.value()
+                ));
+    }
+
+    @ExceptionHandler(InvalidQueryParameterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidQueryParameter(InvalidQueryParameterException ex) {
+        log.error("Invalid query parameter: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        "INVALID_QUERY_PARAMETER",
+                        ex.getMessage(),
+                        HttpStatus.BAD_REQUEST.value()
+                ));
+    }
+
+    @ExceptionHandler(InvalidTranscriptException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTranscript(InvalidTranscriptException ex) {
+        log.error("Invalid transcript: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(
+                        "INVALID_TRANSCRIPT",
+                        ex.getMessage(),
+                        HttpStatus.BAD_REQUEST.value()
+                ));
+    }
+
+    @ExceptionHandler(TranscriptTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleTranscriptTooLarge(TranscriptTooLargeException ex) {
+        log.error("Transcript too large: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(new ErrorResponse(
+                        "TRANSCRIPT_TOO_LARGE",
+                        ex.getMessage(),
+                        HttpStatus.PAYLOAD_TOO_LARGE.value()
+                ));
+    }
+
+    @ExceptionHandler(TranscriptDictionaryException.class)
+    public ResponseEntity<ErrorResponse> handleTranscriptDictionary(TranscriptDictionaryException ex) {
+        log.warn("Transcript dictionary unavailable: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(new ErrorResponse(
+                        "TRANSCRIPT_DICTIONARY_UNAVAILABLE",
+                        ex.getMessage(),
+                        HttpStatus.UNPROCESSABLE_ENTITY.value()
+                ));
+    }
+
+    @ExceptionHandler(AnalysisSupersededException.class)
+    public ResponseEntity<ErrorResponse> handleAnalysisSuperseded(AnalysisSupersededException ex) {
+        log.warn("Analysis superseded: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(
+                        "ANALYSIS_SUPERSEDED",
+                        ex.getMessage(),
+                        HttpStatus.CONFLICT.value()
+                ));
+    }
+
     @ExceptionHandler(TranscriptProcessingException.class)
     public ResponseEntity<ErrorResponse> handleTranscriptProcessing(TranscriptProcessingException ex) {
         log.error("Transcript processing error: {}", ex.getMessage(), ex);
@@ -0,0 +1,7 @@
+package com.recallcontext.exception;
+
+public class InvalidQueryParameterException extends RuntimeException {
+    public InvalidQueryParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.recallcontext.exception;
+
+public class InvalidTranscriptException extends RuntimeException {
+    public InvalidTranscriptException(String message) {
+        super(message);
+    }
+
+    public InvalidTranscriptException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.recallcontext.exception;
+
+public class OperationNotPermittedException extends RuntimeException {
+    public OperationNotPermittedException(String message) {
+        super(message);
+    }
+}
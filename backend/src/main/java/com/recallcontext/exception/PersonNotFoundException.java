@@ -0,0 +1,7 @@
+package com.recallcontext.exception;
+
+public class PersonNotFoundException extends RuntimeException {
+    public PersonNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.recallcontext.exception;
+
+public class TenantAlreadyExistsException extends RuntimeException {
+    public TenantAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.recallcontext.exception;
+
+public class TranscriptDictionaryException extends RuntimeException {
+    public TranscriptDictionaryException(String message) {
+        super(message);
+    }
+}
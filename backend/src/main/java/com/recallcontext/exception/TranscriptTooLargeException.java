@@ -0,0 +1,7 @@
+package com.recallcontext.exception;
+
+public class TranscriptTooLargeException extends RuntimeException {
+    public TranscriptTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.recallcontext.exception;
+
+public class UploadCapacityExceededException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public UploadCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,75 @@
+package com.recallcontext.migration;
+
+import com.recallcontext.service.ContentHashService;
+import com.recallcontext.service.TranscriptBlobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Moves inline transcripts into the blob store and drops meetings.transcript_content,
+ * leaving only the content hash and size on each meeting row.
+ * Runs as a Spring bean so it can use the configured blob store; blobs written by a
+ * migration that later rolls back are collected as orphans.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class V5__MoveTranscriptsToBlobStore extends BaseJavaMigration {
+
+    private static final int FETCH_SIZE = 100;
+
+    private final TranscriptBlobStore blobStore;
+    private final ContentHashService contentHashService;
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE meetings ADD COLUMN transcript_size BIGINT");
+        }
+
+        int moved = 0;
+        try (Statement select = connection.createStatement();
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE meetings SET content_hash = ?, transcript_size = ? WHERE id = ?")) {
+            // Cursor-based read; Flyway runs the migration with auto-commit off
+            select.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = select.executeQuery("SELECT id, transcript_content FROM meetings")) {
+                while (rs.next()) {
+                    String content = rs.getString(2);
+                    String contentHash = contentHashService.sha256Hex(content);
+                    long size = blobStore.putText(contentHash, content);
+
+                    update.setString(1, contentHash);
+                    update.setLong(2, size);
+                    update.setLong(3, rs.getLong(1));
+                    update.addBatch();
+
+                    if (++moved % FETCH_SIZE == 0) {
+                        update.executeBatch();
+                    }
+                }
+            }
+            update.executeBatch();
+        }
+        log.info("Moved {} inline transcripts to the blob store", moved);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE meetings DROP COLUMN transcript_content");
+            statement.execute("ALTER TABLE meetings ALTER COLUMN content_hash SET NOT NULL");
+            statement.execute("ALTER TABLE meetings ALTER COLUMN transcript_size SET NOT NULL");
+            // Blob garbage collection looks meetings up by hash
+            statement.execute("CREATE INDEX idx_meeting_content_hash ON meetings(content_hash)");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionItemBatchResponse {
+    private List<ActionItemResponse> actions; // In request order
+    private List<Long> missingIds; // Unknown, or belonging to another tenant
+}
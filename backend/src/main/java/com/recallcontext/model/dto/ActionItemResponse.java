@@ -19,6 +19,7 @@ public class ActionItemResponse {
     private LocalDateTime meetingDate;
     private String description;
     private String assignee;
+    private Long assigneePersonId;
     private LocalDate dueDate;
     private String status;
     private String priority;
@@ -26,4 +27,5 @@ public class ActionItemResponse {
     private LocalDateTime completedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // Expected version for bulk updates
 }
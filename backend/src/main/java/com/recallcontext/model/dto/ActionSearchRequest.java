@@ -0,0 +1,34 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Action item filters; every field is optional and set fields are combined with AND
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionSearchRequest {
+    private List<String> status;
+    private String assignee;
+    private List<String> priority;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom; // Inclusive
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo; // Inclusive
+
+    private Boolean open; // Anything not COMPLETED
+    private Boolean overdue; // Open and due before today
+    private String meetingType;
+    private String seriesName;
+}
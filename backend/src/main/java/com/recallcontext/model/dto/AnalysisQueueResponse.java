@@ -0,0 +1,24 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisQueueResponse {
+    private int workers;
+    private int active;
+    private int queued;
+    private Map<String, Long> queuedByMeetingType;
+    private Map<String, Integer> queuedByTenant;
+    private Map<String, Integer> activeByTenant;
+    private Map<String, Integer> priorities;
+    private long completedTotal;
+    private long failedTotal;
+}
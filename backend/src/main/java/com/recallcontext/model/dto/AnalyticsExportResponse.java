@@ -0,0 +1,30 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsExportResponse {
+    private String directory;
+    private LocalDateTime exportedUntil;
+    private List<TableResult> tables;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TableResult {
+        private String table;
+        private LocalDateTime since;
+        private long rows;
+        private int partitions;
+    }
+}
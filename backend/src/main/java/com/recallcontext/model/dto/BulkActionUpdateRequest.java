@@ -0,0 +1,43 @@
+package com.recallcontext.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionUpdateRequest {
+
+    @NotEmpty(message = "At least one update is required")
+    @Valid
+    private List<ActionPatch> updates;
+
+    /**
+     * Changes to one action; null fields are left unchanged
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActionPatch {
+        @NotNull(message = "Action id is required")
+        private Long id;
+
+        @NotNull(message = "Expected version is required")
+        private Long version;
+
+        private String status;
+        private String assignee;
+        private String priority;
+        private LocalDate dueDate;
+    }
+}
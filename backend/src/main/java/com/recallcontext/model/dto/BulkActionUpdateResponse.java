@@ -0,0 +1,31 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionUpdateResponse {
+    private int requested;
+    private int updated;
+    private int conflicts;
+    private int notFound;
+    private List<ActionResult> results; // In request order
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActionResult {
+        private Long id;
+        private String status; // UPDATED, CONFLICT, NOT_FOUND
+        private Long currentVersion; // Set for CONFLICT, so the client can re-read and retry
+        private ActionItemResponse action; // Set for UPDATED
+    }
+}
@@ -0,0 +1,19 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReprocessResponse {
+    private int requested;
+    private int queued;
+    private int skipped; // no longer FAILED when picked up, e.g. queued by a concurrent request
+    private List<Long> queuedMeetingIds;
+}
@@ -0,0 +1,34 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarHeatmapResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private List<Day> days; // Only days with activity, in date order
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private int meetings;
+        private Map<String, Integer> meetingsByType;
+        private long transcriptBytes;
+        private int actionsCreated;
+        private int actionsCompleted;
+        private int openActionsDue;
+    }
+}
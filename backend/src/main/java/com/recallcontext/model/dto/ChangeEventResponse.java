@@ -0,0 +1,22 @@
+package com.recallcontext.model.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventResponse {
+    private Long id; // Also the SSE event id, for resuming with Last-Event-ID
+    private String entityType; // MEETING, ACTION_ITEM
+    private Long entityId;
+    private String changeType; // STATUS_CHANGED, CREATED, UPDATED, REMINDER
+    private JsonNode data; // Entity state as committed
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Stored size and decode time of sample transcripts: Postgres TOAST versus deflate with and without the dictionary
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompressionBenchmarkResponse {
+    private String meetingType;
+    private int samples;
+    private int dictionaryVersion;
+    private int dictionarySizeBytes;
+
+    private long rawBytes;
+    private long toastBytes;
+    private long deflateBytes;
+    private long dictionaryBytes;
+
+    private double toastRatio;
+    private double deflateRatio;
+    private double dictionaryRatio;
+
+    // Best of several full reads of every sample
+    private double toastDecodeMillis;
+    private double dictionaryDecodeMillis;
+}
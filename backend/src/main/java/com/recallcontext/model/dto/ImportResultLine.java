@@ -0,0 +1,28 @@
+package com.recallcontext.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One NDJSON line of a bulk import report: a per-file result, or the final summary
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResultLine {
+    private String filename;
+    private String status; // QUEUED, DUPLICATE, INVALID, FAILED, SUMMARY
+    private Long meetingId;
+    private String error;
+
+    // Summary line only
+    private Integer total;
+    private Integer queued;
+    private Integer duplicates;
+    private Integer rejected;
+}
@@ -24,7 +24,11 @@ public class MeetingResponse {
     private SummaryDto summary;
     private List<ParticipantDto> participants;
     private List<ActionItemDto> actionItems;
-    private String transcriptContent; // Optional, only included in detail view
+    private Long transcriptSize; // Bytes; the text is served by GET /api/v1/meetings/{id}/transcript
+    private Integer actionCount;
+    private Integer openActionCount;
+    private Integer participantCount;
+    private String summarySnippet; // Start of the summary text, for list rows
 
     @Data
     @Builder
@@ -44,6 +48,7 @@ public class MeetingResponse {
     @AllArgsConstructor
     public static class ParticipantDto {
         private Long id;
+        private Long personId;
         private String name;
         private String role;
     }
@@ -56,8 +61,10 @@ public class MeetingResponse {
         private Long id;
         private String description;
         private String assignee;
+        private Long assigneePersonId;
         private String dueDate;
         private String status;
         private String priority;
+        private Long originMeetingId; // Set when an earlier meeting raised the action and this one repeated it
     }
 }
@@ -0,0 +1,30 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Meeting filters; every field is optional and set fields are combined with AND
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSearchRequest {
+    private String meetingType;
+    private String seriesName;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from; // Inclusive
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to; // Inclusive
+
+    private String status; // Processing status
+    private String participant; // Case-insensitive name prefix, e.g. "jane" matches "Jane Doe"
+}
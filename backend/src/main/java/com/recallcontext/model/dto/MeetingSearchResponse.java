@@ -0,0 +1,17 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingSearchResponse {
+    private List<MeetingResponse> meetings; // Newest first
+    private String nextCursor; // Pass as cursor for the next page; null on the last page
+}
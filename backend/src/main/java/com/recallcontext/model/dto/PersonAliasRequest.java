@@ -0,0 +1,17 @@
+package com.recallcontext.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonAliasRequest {
+
+    @NotBlank(message = "Alias is required")
+    private String alias;
+}
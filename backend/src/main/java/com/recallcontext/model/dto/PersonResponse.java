@@ -0,0 +1,18 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonResponse {
+    private Long id;
+    private String displayName;
+    private List<String> aliases; // Normalized names that resolve to this person
+}
@@ -0,0 +1,32 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonTimelineResponse {
+    private PersonResponse person;
+    private List<MeetingEntry> meetings; // Newest first
+    private List<ActionItemResponse> actions; // Soonest due first
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MeetingEntry {
+        private Long meetingId;
+        private LocalDateTime meetingDate;
+        private String meetingType;
+        private String seriesName;
+        private String nameInMeeting;
+        private String role;
+    }
+}
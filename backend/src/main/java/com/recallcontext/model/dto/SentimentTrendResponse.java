@@ -0,0 +1,42 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentimentTrendResponse {
+    private String granularity; // WEEK or MONTH
+    private String dimension; // MEETING_TYPE or SERIES
+    private String metric; // SENTIMENT or TONE
+    private LocalDate from;
+    private LocalDate to;
+    private List<TrendGroup> groups;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrendGroup {
+        private String value; // Meeting type or series name
+        private List<TrendBucket> buckets;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrendBucket {
+        private LocalDate bucketStart;
+        private long total;
+        private Map<String, Long> counts; // Meetings per sentiment or tone value
+    }
+}
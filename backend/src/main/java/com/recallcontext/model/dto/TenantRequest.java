@@ -0,0 +1,29 @@
+package com.recallcontext.model.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantRequest {
+
+    @NotBlank(message = "Tenant key is required")
+    @Pattern(regexp = "[a-z0-9][a-z0-9-]{0,99}", message = "Tenant key must be lowercase letters, digits and dashes")
+    private String tenantKey;
+
+    @NotBlank(message = "Name is required")
+    private String name;
+
+    @Min(value = 1, message = "Scheduling weight must be at least 1")
+    private Integer schedulingWeight;
+
+    @Min(value = 1, message = "Max concurrent analyses must be at least 1")
+    private Integer maxConcurrentAnalyses;
+}
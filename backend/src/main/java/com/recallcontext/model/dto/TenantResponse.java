@@ -0,0 +1,21 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantResponse {
+    private Long id;
+    private String tenantKey;
+    private String name;
+    private Integer schedulingWeight;
+    private Integer maxConcurrentAnalyses;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.recallcontext.model.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial tenant update, omitted fields are left unchanged
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantUpdateRequest {
+
+    @Pattern(regexp = ".*\\S.*", message = "Name must not be blank")
+    private String name;
+
+    @Min(value = 1, message = "Scheduling weight must be at least 1")
+    private Integer schedulingWeight;
+
+    @Min(value = 1, message = "Max concurrent analyses must be at least 1")
+    private Integer maxConcurrentAnalyses;
+}
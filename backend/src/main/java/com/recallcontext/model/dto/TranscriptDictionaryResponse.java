@@ -0,0 +1,26 @@
+package com.recallcontext.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TranscriptDictionaryResponse {
+    private String meetingType;
+    private Integer version;
+    private Integer sizeBytes;
+    private Integer sampleCount;
+    private LocalDateTime createdAt;
+
+    // Training result only: compression achieved on the training samples
+    private Long sampleRawBytes;
+    private Long sampleCompressedBytes;
+}
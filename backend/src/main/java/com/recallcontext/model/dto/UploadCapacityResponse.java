@@ -0,0 +1,22 @@
+package com.recallcontext.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadCapacityResponse {
+    private int maxInFlight;
+    private int inFlight;
+    private long maxQueuedBytes;
+    private long queuedBytes;
+    private int maxQueuedImports;
+    private int queuedImports;
+    private long acceptedTotal;
+    private long rejectedTotal;
+    private long retryAfterSeconds;
+}
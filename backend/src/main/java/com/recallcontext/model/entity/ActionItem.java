@@ -31,6 +31,10 @@ public class ActionItem {
     @Column(name = "assignee")
     private String assignee;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_person_id")
+    private Person assigneePerson;
+
     @Column(name = "due_date")
     private LocalDate dueDate;
 
@@ -52,6 +56,11 @@ public class ActionItem {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Bumped on every edit; bulk updates in ActionItemBatchRepository check and bump it too
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
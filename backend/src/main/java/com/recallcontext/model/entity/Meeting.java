@@ -23,6 +23,12 @@ public class Meeting {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "uploaded_by", nullable = false)
+    private String uploadedBy;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "series_id")
     private MeetingSeries series;
@@ -39,8 +45,12 @@ public class Meeting {
     @Column(name = "original_filename", nullable = false, length = 500)
     private String originalFilename;
 
-    @Column(name = "transcript_content", nullable = false, columnDefinition = "TEXT")
-    private String transcriptContent;
+    // SHA-256 of the transcript, which lives in the transcript blob store
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "transcript_size", nullable = false)
+    private Long transcriptSize;
 
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "metadata", columnDefinition = "jsonb")
@@ -52,6 +62,23 @@ public class Meeting {
     @Column(name = "processing_error", columnDefinition = "TEXT")
     private String processingError;
 
+    // Renewed while the meeting waits in or runs on an instance's analysis queue, written only by MeetingRepository
+    @Column(name = "processing_heartbeat_at", insertable = false, updatable = false)
+    private LocalDateTime processingHeartbeatAt;
+
+    // Card fields for the meeting list, written only by MeetingCardRepository
+    @Column(name = "action_count", insertable = false, updatable = false)
+    private Integer actionCount;
+
+    @Column(name = "open_action_count", insertable = false, updatable = false)
+    private Integer openActionCount;
+
+    @Column(name = "participant_count", insertable = false, updatable = false)
+    private Integer participantCount;
+
+    @Column(name = "summary_snippet", insertable = false, updatable = false, length = 240)
+    private String summarySnippet;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
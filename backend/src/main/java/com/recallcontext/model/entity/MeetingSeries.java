@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "meeting_series", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"series_name", "meeting_type"})
+    @UniqueConstraint(columnNames = {"tenant_id", "series_name", "meeting_type"})
 })
 @Data
 @Builder
@@ -22,6 +22,9 @@ public class MeetingSeries {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
     @Column(name = "series_name", nullable = false)
     private String seriesName;
 
@@ -27,6 +27,10 @@ public class Participant {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "person_id")
+    private Person person;
+
     @Column(name = "role", length = 100)
     private String role;
 
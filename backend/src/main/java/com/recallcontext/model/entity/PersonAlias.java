@@ -0,0 +1,43 @@
+package com.recallcontext.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "person_aliases", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"tenant_id", "alias"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonAlias {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "person_id", nullable = false)
+    private Person person;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    // Normalized like Person.normalizedName
+    @Column(name = "alias", nullable = false)
+    private String alias;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,54 @@
+package com.recallcontext.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tenants")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Tenant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_key", unique = true, nullable = false, length = 100)
+    private String tenantKey;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "scheduling_weight", nullable = false)
+    private Integer schedulingWeight;
+
+    @Column(name = "max_concurrent_analyses")
+    private Integer maxConcurrentAnalyses;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (schedulingWeight == null) {
+            schedulingWeight = 1;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_settings")
+@Table(name = "user_settings",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"tenant_id", "user_id"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,9 +21,12 @@ public class UserSettings {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "user_id", unique = true, nullable = false)
+    @Column(name = "user_id", nullable = false)
     private String userId;
 
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
     @Column(name = "encrypted_api_key", nullable = false, columnDefinition = "TEXT")
     private String encryptedApiKey;
 
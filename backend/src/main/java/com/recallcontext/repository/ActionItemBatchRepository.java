@@ -0,0 +1,135 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.dto.BulkActionUpdateRequest.ActionPatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC batch updates for bulk action item edits, bypassing per-row load and dirty checking
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActionItemBatchRepository {
+
+    // Null parameters leave a column unchanged; completed_at follows ActionItem.onUpdate
+    private static final String UPDATE_SQL =
+            "UPDATE action_items a SET " +
+            "status = COALESCE(?, a.status), " +
+            "assignee = COALESCE(?, a.assignee), " +
+            "assignee_person_id = CASE WHEN ?::varchar IS NULL THEN a.assignee_person_id ELSE ? END, " +
+            "priority = COALESCE(?, a.priority), " +
+            "due_date = COALESCE(?, a.due_date), " +
+            "completed_at = CASE WHEN COALESCE(?, a.status) = 'COMPLETED' AND a.completed_at IS NULL " +
+            "THEN ? ELSE a.completed_at END, " +
+            "updated_at = ?, " +
+            "version = a.version + 1 " +
+            "FROM meetings m " +
+            "WHERE m.id = a.meeting_id AND m.tenant_id = ? AND a.id = ? AND a.version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Lock those of the given actions that belong to the tenant, in id order, until the transaction ends.
+     * The versions and statuses returned stay current for the rest of the transaction, so callers can
+     * tell which patches will apply before running {@link #updateAll}.
+     */
+    @Transactional
+    public Map<Long, LockedAction> lockActions(Long tenantId, Collection<Long> ids) {
+        Map<Long, LockedAction> locked = new HashMap<>();
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "SELECT a.id, a.meeting_id, a.status, a.version FROM action_items a " +
+                "JOIN meetings m ON m.id = a.meeting_id " +
+                "WHERE m.tenant_id = :tenantId AND a.id IN (:ids) ORDER BY a.id FOR UPDATE OF a",
+                new MapSqlParameterSource("tenantId", tenantId).addValue("ids", ids),
+                (RowCallbackHandler) rs -> locked.put(rs.getLong("id"),
+                        new LockedAction(rs.getLong("meeting_id"), rs.getString("status"), rs.getLong("version"))));
+        return locked;
+    }
+
+    /**
+     * Apply the patches in one JDBC batch, linking new assignees to their resolved person IDs.
+     * An entry is false when the action does not exist for the tenant or its version no longer matches.
+     * <p>
+     * The actions must have been locked with {@link #lockActions} in the same transaction, so their
+     * statuses are the ones the batch replaces. Meetings whose open action count changes are then
+     * updated once each in meeting id order, and meetings with no status change are not touched, so
+     * concurrent edits cannot deadlock on them.
+     */
+    @Transactional
+    public boolean[] updateAll(Long tenantId, List<ActionPatch> patches, Map<Long, LockedAction> locked,
+                               Map<String, Long> assigneePersonIds, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, patches, patches.size(), (ps, patch) -> {
+            ps.setString(1, patch.getStatus());
+            ps.setString(2, patch.getAssignee());
+            ps.setString(3, patch.getAssignee());
+            ps.setObject(4, assigneePersonIds.get(patch.getAssignee()), Types.BIGINT);
+            ps.setString(5, patch.getPriority());
+            ps.setObject(6, patch.getDueDate(), Types.DATE);
+            ps.setString(7, patch.getStatus());
+            ps.setTimestamp(8, timestamp);
+            ps.setTimestamp(9, timestamp);
+            ps.setLong(10, tenantId);
+            ps.setLong(11, patch.getId());
+            ps.setLong(12, patch.getVersion());
+        });
+
+        boolean[] applied = new boolean[patches.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                applied[index++] = count > 0;
+            }
+        }
+
+        Map<Long, Integer> openedByMeeting = new TreeMap<>();
+        for (int i = 0; i < patches.size(); i++) {
+            ActionPatch patch = patches.get(i);
+            if (!applied[i] || patch.getStatus() == null) {
+                continue;
+            }
+            LockedAction previous = locked.get(patch.getId());
+            int opened = isOpen(patch.getStatus()) - isOpen(previous.status());
+            if (opened != 0) {
+                openedByMeeting.merge(previous.meetingId(), opened, Integer::sum);
+            }
+        }
+        List<Object[]> adjustments = openedByMeeting.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        if (!adjustments.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE meetings SET open_action_count = open_action_count + ? WHERE id = ?", adjustments);
+        }
+        return applied;
+    }
+
+    private static int isOpen(String status) {
+        return "COMPLETED".equals(status) ? 0 : 1;
+    }
+
+    /**
+     * An action as locked, before any patch is applied
+     */
+    public record LockedAction(long meetingId, String status, long version) {
+
+        public boolean accepts(ActionPatch patch) {
+            return patch.getVersion() != null && version == patch.getVersion();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.recallcontext.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Links between meetings and existing open actions they raised again, stored instead of duplicates
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActionItemMentionRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO action_item_mentions (action_item_id, meeting_id, description) VALUES (?, ?, ?) " +
+            "ON CONFLICT (action_item_id, meeting_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record that a meeting mentioned each action again, keyed by action ID with the wording used
+     */
+    public void insertAll(Long meetingId, Map<Long, String> descriptionsByActionId) {
+        List<Map.Entry<Long, String>> mentions = new ArrayList<>(descriptionsByActionId.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_SQL, mentions, mentions.size(), (ps, mention) -> {
+            ps.setLong(1, mention.getKey());
+            ps.setLong(2, meetingId);
+            ps.setString(3, mention.getValue());
+        });
+    }
+
+    /**
+     * Record mentions again under new action IDs, keeping when they were first made
+     */
+    public void restoreAll(List<Mention> mentions) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO action_item_mentions (action_item_id, meeting_id, description, created_at) " +
+                "VALUES (?, ?, ?, ?) ON CONFLICT (action_item_id, meeting_id) DO NOTHING",
+                mentions, mentions.size(), (ps, mention) -> {
+                    ps.setLong(1, mention.actionItemId());
+                    ps.setLong(2, mention.meetingId());
+                    ps.setString(3, mention.description());
+                    ps.setTimestamp(4, Timestamp.valueOf(mention.createdAt()));
+                });
+    }
+
+    /**
+     * Mentions by other meetings of the actions of a meeting, with the assignee, assignee person and
+     * description of the mentioned action
+     */
+    public List<Mention> findMentionsOfMeetingActions(Long meetingId) {
+        return jdbcTemplate.query(
+                "SELECT m.action_item_id, m.meeting_id, m.description, m.created_at, " +
+                "a.assignee, a.assignee_person_id, a.description AS action_description " +
+                "FROM action_item_mentions m JOIN action_items a ON a.id = m.action_item_id " +
+                "WHERE a.meeting_id = ? AND m.meeting_id <> ?",
+                (rs, rowNum) -> new Mention(
+                        rs.getLong("action_item_id"),
+                        rs.getLong("meeting_id"),
+                        rs.getString("description"),
+                        rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getString("assignee"),
+                        rs.getObject("assignee_person_id", Long.class),
+                        rs.getString("action_description")),
+                meetingId, meetingId);
+    }
+
+    public int deleteByMeetingId(Long meetingId) {
+        return jdbcTemplate.update("DELETE FROM action_item_mentions WHERE meeting_id = ?", meetingId);
+    }
+
+    /**
+     * IDs of the actions each meeting mentioned again, in action ID order
+     */
+    public Map<Long, List<Long>> findActionIdsByMeetingIds(Collection<Long> meetingIds) {
+        Map<Long, List<Long>> actionIds = new HashMap<>();
+        new NamedParameterJdbcTemplate(jdbcTemplate).query(
+                "SELECT meeting_id, action_item_id FROM action_item_mentions " +
+                "WHERE meeting_id IN (:meetingIds) ORDER BY action_item_id",
+                new MapSqlParameterSource("meetingIds", meetingIds),
+                (RowCallbackHandler) rs -> actionIds
+                        .computeIfAbsent(rs.getLong("meeting_id"), id -> new ArrayList<>())
+                        .add(rs.getLong("action_item_id")));
+        return actionIds;
+    }
+
+    public record Mention(long actionItemId, long meetingId, String description, LocalDateTime createdAt,
+                          String actionAssignee, Long actionAssigneePersonId, String actionDescription) {
+
+        public Mention withActionItemId(long newActionItemId) {
+            return new Mention(newActionItemId, meetingId, description, createdAt, actionAssignee,
+                    actionAssigneePersonId, actionDescription);
+        }
+    }
+}
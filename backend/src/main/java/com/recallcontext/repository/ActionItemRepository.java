@@ -3,21 +3,59 @@ package com.recallcontext.repository;
 import com.recallcontext.model.entity.ActionItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Action item queries. Since V7 dropped the single-column assignee and status indexes:
+ * <ul>
+ *   <li>{@code findByStatusOrderByDueDateAsc}, {@code findByStatusIn} and {@code countByStatus} use
+ *       idx_action_status_due (status, due_date)</li>
+ *   <li>{@code findByAssigneeOrderByDueDateAsc} reads idx_action_assignee_due (assignee, due_date) in
+ *       order, and {@code countByAssignee} uses its leading column</li>
+ *   <li>{@code findOpenIdsByAssigneePersonDueBefore} is answered from the partial
+ *       idx_action_open_person_due (assignee_person_id, due_date, id) alone, as an index-only scan</li>
+ *   <li>{@code countOverdueActions}, {@code countActionsDueBetween}, {@code findPendingActions} and
+ *       {@code findOpenDueOnOrAfter} use the partial idx_action_open_due, as their
+ *       {@code status <> 'COMPLETED'} matches its predicate</li>
+ * </ul>
+ */
 @Repository
-public interface ActionItemRepository extends JpaRepository<ActionItem, Long> {
+public interface ActionItemRepository extends JpaRepository<ActionItem, Long>, JpaSpecificationExecutor<ActionItem> {
+
+    /**
+     * Filtered page with each item's meeting fetched in the same query (see {@link ActionItemSpecifications})
+     */
+    @Override
+    @EntityGraph(attributePaths = "meeting")
+    Page<ActionItem> findAll(Specification<ActionItem> spec, Pageable pageable);
 
     List<ActionItem> findByMeetingId(Long meetingId);
 
+    List<ActionItem> findByMeetingIdInOrderByIdAsc(Collection<Long> meetingIds);
+
     Page<ActionItem> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    @Query("SELECT a FROM ActionItem a WHERE a.meeting.tenantId = :tenantId ORDER BY a.createdAt DESC")
+    Page<ActionItem> findByTenantIdOrderByCreatedAtDesc(@Param("tenantId") Long tenantId, Pageable pageable);
+
+    @Query("SELECT a FROM ActionItem a WHERE a.id = :id AND a.meeting.tenantId = :tenantId")
+    Optional<ActionItem> findByIdAndTenantId(@Param("id") Long id, @Param("tenantId") Long tenantId);
+
+    @Query("SELECT a FROM ActionItem a JOIN FETCH a.meeting m WHERE a.id IN :ids AND m.tenantId = :tenantId")
+    List<ActionItem> findByIdInAndTenantId(@Param("ids") Collection<Long> ids, @Param("tenantId") Long tenantId);
+
     Page<ActionItem> findByStatusOrderByDueDateAsc(String status, Pageable pageable);
 
     Page<ActionItem> findByAssigneeOrderByDueDateAsc(String assignee, Pageable pageable);
@@ -37,4 +75,33 @@ public interface ActionItemRepository extends JpaRepository<ActionItem, Long> {
 
     @Query("SELECT a FROM ActionItem a WHERE a.status != 'COMPLETED' AND (a.dueDate IS NULL OR a.dueDate <= :date) ORDER BY a.dueDate ASC")
     List<ActionItem> findPendingActions(@Param("date") LocalDate date);
+
+    @Query("SELECT a FROM ActionItem a WHERE a.status <> 'COMPLETED' AND a.dueDate >= :date")
+    List<ActionItem> findOpenDueOnOrAfter(@Param("date") LocalDate date);
+
+    @Query("SELECT a FROM ActionItem a JOIN FETCH a.meeting WHERE a.id IN :ids")
+    List<ActionItem> findWithMeetingByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a FROM ActionItem a JOIN FETCH a.meeting WHERE a.assigneePerson.id = :personId " +
+            "ORDER BY a.dueDate ASC, a.id ASC")
+    List<ActionItem> findWithMeetingByAssigneePersonId(@Param("personId") Long personId, Pageable pageable);
+
+    /**
+     * Ids of a person's open actions due before a date, soonest first; every column it touches is in
+     * idx_action_open_person_due, so neither the page nor its count reads the table
+     */
+    @Query(value = "SELECT a.id FROM ActionItem a WHERE a.assigneePerson.id = :personId " +
+                   "AND a.status <> 'COMPLETED' AND a.dueDate < :date ORDER BY a.dueDate ASC, a.id ASC",
+           countQuery = "SELECT COUNT(a.id) FROM ActionItem a WHERE a.assigneePerson.id = :personId " +
+                        "AND a.status <> 'COMPLETED' AND a.dueDate < :date")
+    Page<Long> findOpenIdsByAssigneePersonDueBefore(@Param("personId") Long personId, @Param("date") LocalDate date,
+                                                    Pageable pageable);
+
+    @Query("SELECT a FROM ActionItem a WHERE a.meeting.series.id = :seriesId AND a.meeting.id <> :meetingId " +
+            "AND a.status <> 'COMPLETED'")
+    List<ActionItem> findOpenInSeriesOutsideMeeting(@Param("seriesId") Long seriesId, @Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query("DELETE FROM ActionItem a WHERE a.meeting.id = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
 }
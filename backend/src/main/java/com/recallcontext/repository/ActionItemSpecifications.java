@@ -0,0 +1,73 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.entity.ActionItem;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Composable action item filters. Predicates are written to match the V7 indexes, in particular
+ * {@code status <> 'COMPLETED'} for the partial indexes on open items.
+ * <p>
+ * The indexes narrow the scanned range and supply the due date order, but a page still reads every
+ * matching row from the heap because it loads full entities; they are not index-only scans. Only the
+ * page's count query, which needs just meeting_id for the tenant join, can be answered from the
+ * partial indexes alone. "My open overdue actions" skips these filters altogether, see
+ * {@link ActionItemRepository#findOpenIdsByAssigneePersonDueBefore}.
+ */
+public final class ActionItemSpecifications {
+
+    private ActionItemSpecifications() {
+    }
+
+    public static Specification<ActionItem> belongsToTenant(Long tenantId) {
+        return (root, query, cb) -> cb.equal(root.get("meeting").get("tenantId"), tenantId);
+    }
+
+    public static Specification<ActionItem> statusIn(Collection<String> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<ActionItem> isOpen() {
+        return (root, query, cb) -> cb.notEqual(root.get("status"), "COMPLETED");
+    }
+
+    /**
+     * Actions of a person, whichever alias they were assigned under
+     */
+    public static Specification<ActionItem> assignedToPerson(Long personId) {
+        return (root, query, cb) -> cb.equal(root.get("assigneePerson").get("id"), personId);
+    }
+
+    /**
+     * Actions whose assignee text matches exactly, for names that resolve to no person
+     */
+    public static Specification<ActionItem> assignedTo(String assignee) {
+        return (root, query, cb) -> cb.equal(root.get("assignee"), assignee);
+    }
+
+    public static Specification<ActionItem> priorityIn(Collection<String> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<ActionItem> dueOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<ActionItem> dueOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<ActionItem> dueBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), date);
+    }
+
+    public static Specification<ActionItem> fromMeetingType(String meetingType) {
+        return (root, query, cb) -> cb.equal(root.get("meeting").get("meetingType"), meetingType);
+    }
+
+    public static Specification<ActionItem> fromSeries(String seriesName) {
+        return (root, query, cb) -> cb.equal(root.get("meeting").get("seriesName"), seriesName);
+    }
+}
@@ -0,0 +1,146 @@
+package com.recallcontext.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Change scans, deletion tombstones and watermarks for the incremental analytics export.
+ * Every scan returns the tenant id and the partition date (the meeting date) as its first two columns
+ * and is ordered by them.
+ */
+@Repository
+public class AnalyticsExportRepository {
+
+    public enum SourceTable {
+        MEETINGS("meetings",
+                "SELECT m.tenant_id AS partition_tenant, m.meeting_date::date AS partition_date, m.id, m.series_id, " +
+                "m.meeting_date, m.meeting_type, m.series_name, m.processing_status, m.created_at, m.updated_at " +
+                "FROM meetings m " +
+                "WHERE m.updated_at > ? AND m.updated_at <= ? " +
+                "ORDER BY partition_tenant, partition_date, m.id"),
+        SUMMARIES("summaries",
+                "SELECT m.tenant_id AS partition_tenant, m.meeting_date::date AS partition_date, s.id, s.meeting_id, " +
+                "m.meeting_type, s.sentiment, s.tone, cardinality(s.key_points) AS key_point_count, " +
+                "cardinality(s.decisions) AS decision_count, s.key_points, s.decisions, s.summary_text, s.created_at " +
+                "FROM summaries s JOIN meetings m ON m.id = s.meeting_id " +
+                "WHERE s.created_at > ? AND s.created_at <= ? " +
+                "ORDER BY partition_tenant, partition_date, s.id"),
+        PARTICIPANTS("participants",
+                "SELECT m.tenant_id AS partition_tenant, m.meeting_date::date AS partition_date, p.id, p.meeting_id, " +
+                "p.name, p.role, p.created_at " +
+                "FROM participants p JOIN meetings m ON m.id = p.meeting_id " +
+                "WHERE p.created_at > ? AND p.created_at <= ? " +
+                "ORDER BY partition_tenant, partition_date, p.id"),
+        ACTION_ITEMS("action_items",
+                "SELECT m.tenant_id AS partition_tenant, m.meeting_date::date AS partition_date, a.id, a.meeting_id, " +
+                "m.meeting_type, a.description, a.assignee, a.due_date, a.status, a.priority, a.completed_at, " +
+                "a.created_at, a.updated_at " +
+                "FROM action_items a JOIN meetings m ON m.id = a.meeting_id " +
+                "WHERE a.updated_at > ? AND a.updated_at <= ? " +
+                "ORDER BY partition_tenant, partition_date, a.id"),
+        DELETIONS("deletions",
+                "SELECT d.tenant_id AS partition_tenant, d.partition_date, d.table_name, d.row_id AS id, d.deleted_at " +
+                "FROM analytics_export_deletions d " +
+                "WHERE d.deleted_at > ? AND d.deleted_at <= ? " +
+                "ORDER BY partition_tenant, partition_date, d.id");
+
+        private final String tableName;
+        private final String changesSql;
+
+        SourceTable(String tableName, String changesSql) {
+            this.tableName = tableName;
+            this.changesSql = changesSql;
+        }
+
+        public String getTableName() {
+            return tableName;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalyticsExportRepository(DataSource dataSource, @Value("${exports.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Stream rows of a table changed in (since, until], through a cursor
+     */
+    @Transactional(readOnly = true)
+    public void streamChanges(SourceTable table, LocalDateTime since, LocalDateTime until, RowCallbackHandler handler) {
+        jdbcTemplate.query(table.changesSql, handler, Timestamp.valueOf(since), Timestamp.valueOf(until));
+    }
+
+    /**
+     * The exported rows of a meeting's summary, participants and action items, and the meeting itself
+     * when it is being deleted too, as tombstones to record once they are gone
+     */
+    public List<Tombstone> findMeetingRows(Long meetingId, boolean includeMeeting) {
+        return jdbcTemplate.query(
+                "SELECT 'summaries' AS table_name, s.id AS row_id FROM summaries s WHERE s.meeting_id = ? " +
+                "UNION ALL SELECT 'participants', p.id FROM participants p WHERE p.meeting_id = ? " +
+                "UNION ALL SELECT 'action_items', a.id FROM action_items a WHERE a.meeting_id = ? " +
+                "UNION ALL SELECT 'meetings', m.id FROM meetings m WHERE m.id = ? AND ?",
+                (rs, rowNum) -> new Tombstone(rs.getString("table_name"), rs.getLong("row_id")),
+                meetingId, meetingId, meetingId, meetingId, includeMeeting);
+    }
+
+    /**
+     * Record deleted rows of a meeting, stamped with the current clock rather than the transaction start,
+     * so a long transaction commits its tombstones within the export's commit lag
+     */
+    public void recordDeletions(Long tenantId, LocalDate meetingDate, List<Tombstone> tombstones) {
+        if (tombstones.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO analytics_export_deletions (table_name, row_id, tenant_id, partition_date, deleted_at) " +
+                "VALUES (?, ?, ?, ?, clock_timestamp()::timestamp)",
+                tombstones, tombstones.size(), (ps, tombstone) -> {
+                    ps.setString(1, tombstone.tableName());
+                    ps.setLong(2, tombstone.rowId());
+                    ps.setLong(3, tenantId);
+                    ps.setObject(4, meetingDate);
+                });
+    }
+
+    /**
+     * Drop tombstones the export has already written out
+     */
+    public int purgeDeletions(LocalDateTime exportedUntil) {
+        return jdbcTemplate.update("DELETE FROM analytics_export_deletions WHERE deleted_at <= ?",
+                Timestamp.valueOf(exportedUntil));
+    }
+
+    public Optional<LocalDateTime> findWatermark(SourceTable table) {
+        List<Timestamp> watermarks = jdbcTemplate.queryForList(
+                "SELECT watermark FROM analytics_export_watermarks WHERE table_name = ?",
+                Timestamp.class, table.getTableName());
+        return watermarks.stream().findFirst().map(Timestamp::toLocalDateTime);
+    }
+
+    @Transactional
+    public void saveWatermark(SourceTable table, LocalDateTime watermark, long rowsExported) {
+        jdbcTemplate.update(
+                "INSERT INTO analytics_export_watermarks (table_name, watermark, rows_exported, last_run_at) " +
+                "VALUES (?, ?, ?, LOCALTIMESTAMP) " +
+                "ON CONFLICT (table_name) DO UPDATE SET watermark = EXCLUDED.watermark, " +
+                "rows_exported = analytics_export_watermarks.rows_exported + EXCLUDED.rows_exported, " +
+                "last_run_at = EXCLUDED.last_run_at",
+                table.getTableName(), Timestamp.valueOf(watermark), rowsExported);
+    }
+
+    public record Tombstone(String tableName, long rowId) {
+    }
+}
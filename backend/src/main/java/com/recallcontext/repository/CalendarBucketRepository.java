@@ -0,0 +1,48 @@
+package com.recallcontext.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reads and refreshes the daily_meeting_buckets materialized view
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalendarBucketRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Recompute the view without blocking readers
+     */
+    public void refresh() {
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY daily_meeting_buckets");
+    }
+
+    /**
+     * A tenant's buckets for days in [from, to], by day and meeting type
+     */
+    public List<DayBucket> findBetween(Long tenantId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT day, meeting_type, meetings, transcript_bytes, actions_created, actions_completed, open_actions_due " +
+                "FROM daily_meeting_buckets WHERE tenant_id = ? AND day BETWEEN ? AND ? ORDER BY day, meeting_type",
+                (rs, rowNum) -> new DayBucket(
+                        rs.getDate("day").toLocalDate(),
+                        rs.getString("meeting_type"),
+                        rs.getInt("meetings"),
+                        rs.getLong("transcript_bytes"),
+                        rs.getInt("actions_created"),
+                        rs.getInt("actions_completed"),
+                        rs.getInt("open_actions_due")),
+                tenantId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    public record DayBucket(LocalDate day, String meetingType, int meetings, long transcriptBytes,
+                            int actionsCreated, int actionsCompleted, int openActionsDue) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.recallcontext.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox of committed meeting and action item changes behind the change feed. Rows are inserted
+ * from the entities' current state inside the changing transaction, so only committed changes are
+ * visible and event ids give every instance the same order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeEventRepository {
+
+    public static final String CHANNEL = "change_events";
+
+    private static final RowMapper<ChangeEvent> ROW_MAPPER = (rs, rowNum) -> new ChangeEvent(
+            rs.getLong("id"),
+            rs.getLong("tenant_id"),
+            rs.getString("entity_type"),
+            rs.getLong("entity_id"),
+            rs.getString("change_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, tenant_id, entity_type, entity_id, change_type, payload::text AS payload, created_at FROM change_events ";
+
+    private static final String INSERT_MEETINGS_SQL =
+            "INSERT INTO change_events (tenant_id, entity_type, entity_id, change_type, payload) " +
+            "SELECT m.tenant_id, 'MEETING', m.id, 'STATUS_CHANGED', jsonb_build_object(" +
+            "'id', m.id, 'meetingDate', m.meeting_date, 'meetingType', m.meeting_type, 'seriesName', m.series_name, " +
+            "'originalFilename', m.original_filename, 'processingStatus', m.processing_status, " +
+            "'processingError', m.processing_error, 'updatedAt', m.updated_at) " +
+            "FROM meetings m WHERE m.id = ANY(?) ORDER BY m.id";
+
+    private static final String INSERT_ACTIONS_SQL =
+            "INSERT INTO change_events (tenant_id, entity_type, entity_id, change_type, payload) " +
+            "SELECT m.tenant_id, 'ACTION_ITEM', a.id, ?, jsonb_build_object(" +
+            "'id', a.id, 'meetingId', a.meeting_id, 'description', a.description, 'assignee', a.assignee, " +
+            "'dueDate', a.due_date, 'status', a.status, 'priority', a.priority, 'completedAt', a.completed_at, " +
+            "'updatedAt', a.updated_at, 'version', a.version) " +
+            "FROM action_items a JOIN meetings m ON m.id = a.meeting_id WHERE a.id = ANY(?) ORDER BY a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Record the current status of meetings
+     */
+    public void recordMeetings(Collection<Long> meetingIds) {
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_MEETINGS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", meetingIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Record the current state of action items
+     */
+    public void recordActions(Collection<Long> actionIds, String changeType) {
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_ACTIONS_SQL);
+            ps.setString(1, changeType);
+            ps.setArray(2, con.createArrayOf("bigint", actionIds.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Record an event, unless one with the same dedupe key exists; true if it was recorded. The key is
+     * checked before inserting, under a transaction-scoped advisory lock on it, so a losing insert never
+     * draws an id: an unused id would be a gap the dispatcher waits on for the whole gap grace.
+     */
+    @Transactional
+    public boolean record(Long tenantId, String entityType, Long entityId, String changeType, String payloadJson,
+                          String dedupeKey) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext('change_events:' || ?))", rs -> null, dedupeKey);
+        return jdbcTemplate.update(
+                "INSERT INTO change_events (tenant_id, entity_type, entity_id, change_type, payload, dedupe_key) " +
+                "SELECT ?, ?, ?, ?, ?::jsonb, ? " +
+                "WHERE NOT EXISTS (SELECT 1 FROM change_events WHERE dedupe_key = ?)",
+                tenantId, entityType, entityId, changeType, payloadJson, dedupeKey, dedupeKey) > 0;
+    }
+
+    /**
+     * Wake every instance's listener; Postgres delivers it when the current transaction commits
+     */
+    public void notifyListeners() {
+        jdbcTemplate.execute("NOTIFY " + CHANNEL);
+    }
+
+    public long findMaxId() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM change_events", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    /**
+     * Events of all tenants after an id, oldest first
+     */
+    public List<ChangeEvent> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?", ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * A tenant's events in (afterId, upToId], oldest first
+     */
+    public List<ChangeEvent> findForTenant(Long tenantId, long afterId, long upToId, int limit) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + "WHERE tenant_id = ? AND id > ? AND id <= ? ORDER BY id LIMIT ?",
+                ROW_MAPPER, tenantId, afterId, upToId, limit);
+    }
+
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM change_events WHERE created_at < ?", Timestamp.valueOf(cutoff));
+    }
+
+    public record ChangeEvent(
+            long id,
+            long tenantId,
+            String entityType,
+            long entityId,
+            String changeType,
+            String payload,
+            LocalDateTime createdAt
+    ) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.recallcontext.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+/**
+ * Cursor-based reads for exports. Rows are fetched in fixed-size chunks and read by the
+ * extractor one at a time, so memory use does not grow with the number of rows exported.
+ */
+@Repository
+public class ExportRepository {
+
+    private static final String MEETINGS_SQL =
+            "SELECT m.id AS \"id\", m.meeting_date AS \"meetingDate\", m.meeting_type AS \"meetingType\", " +
+            "m.series_name AS \"seriesName\", m.original_filename AS \"originalFilename\", " +
+            "m.processing_status AS \"processingStatus\", s.summary_text AS \"summaryText\", " +
+            "s.sentiment AS \"sentiment\", s.tone AS \"tone\", s.key_points AS \"keyPoints\", " +
+            "s.decisions AS \"decisions\", " +
+            "(SELECT array_agg(p.name ORDER BY p.id) FROM participants p WHERE p.meeting_id = m.id) AS \"participants\", " +
+            "m.created_at AS \"createdAt\", m.updated_at AS \"updatedAt\" " +
+            "FROM meetings m LEFT JOIN summaries s ON s.meeting_id = m.id " +
+            "WHERE m.tenant_id = ? ORDER BY m.id";
+
+    private static final String ACTION_ITEMS_SQL =
+            "SELECT a.id AS \"id\", a.meeting_id AS \"meetingId\", m.meeting_type AS \"meetingType\", " +
+            "m.meeting_date AS \"meetingDate\", a.description AS \"description\", a.assignee AS \"assignee\", " +
+            "a.due_date AS \"dueDate\", a.status AS \"status\", a.priority AS \"priority\", a.notes AS \"notes\", " +
+            "a.completed_at AS \"completedAt\", a.created_at AS \"createdAt\", a.updated_at AS \"updatedAt\" " +
+            "FROM action_items a JOIN meetings m ON m.id = a.meeting_id " +
+            "WHERE m.tenant_id = ? ORDER BY a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportRepository(DataSource dataSource, @Value("${exports.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Stream a tenant's meetings with their summary and participant names.
+     * Runs in a read-only transaction because the Postgres driver only uses a cursor with auto-commit off.
+     */
+    @Transactional(readOnly = true)
+    public <T> T streamMeetings(Long tenantId, ResultSetExtractor<T> extractor) {
+        return jdbcTemplate.query(MEETINGS_SQL, extractor, tenantId);
+    }
+
+    /**
+     * Stream a tenant's action items with their meeting type and date
+     */
+    @Transactional(readOnly = true)
+    public <T> T streamActionItems(Long tenantId, ResultSetExtractor<T> extractor) {
+        return jdbcTemplate.query(ACTION_ITEMS_SQL, extractor, tenantId);
+    }
+}
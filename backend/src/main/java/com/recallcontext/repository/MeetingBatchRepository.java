@@ -0,0 +1,64 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.entity.Meeting;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for bulk meeting imports, bypassing per-row IDENTITY round trips
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO meetings (id, tenant_id, uploaded_by, series_id, meeting_date, meeting_type, series_name, " +
+            "original_filename, content_hash, transcript_size, processing_status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert meetings in one JDBC batch, assigning their ids from the meetings sequence
+     */
+    @Transactional
+    public void insertAll(List<Meeting> meetings) {
+        if (meetings.isEmpty()) {
+            return;
+        }
+
+        // One round trip reserves ids for the whole batch
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT nextval('meetings_id_seq') FROM generate_series(1, ?)", Long.class, meetings.size());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < meetings.size(); i++) {
+            Meeting meeting = meetings.get(i);
+            meeting.setId(ids.get(i));
+            meeting.setCreatedAt(now.toLocalDateTime());
+            meeting.setUpdatedAt(now.toLocalDateTime());
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, meetings, meetings.size(), (ps, meeting) -> {
+            ps.setLong(1, meeting.getId());
+            ps.setLong(2, meeting.getTenantId());
+            ps.setString(3, meeting.getUploadedBy());
+            ps.setObject(4, meeting.getSeries() != null ? meeting.getSeries().getId() : null);
+            ps.setTimestamp(5, Timestamp.valueOf(meeting.getMeetingDate()));
+            ps.setString(6, meeting.getMeetingType());
+            ps.setString(7, meeting.getSeriesName());
+            ps.setString(8, meeting.getOriginalFilename());
+            ps.setString(9, meeting.getContentHash());
+            ps.setLong(10, meeting.getTranscriptSize());
+            ps.setString(11, meeting.getProcessingStatus());
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.recallcontext.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Maintains the denormalized card fields on meetings (action, open action and participant counts
+ * and a summary snippet) so the meeting list needs no child rows. The columns are read-only in the
+ * Meeting entity so entity saves never overwrite them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MeetingCardRepository {
+
+    public static final int SNIPPET_LENGTH = 240;
+
+    private static final String ACTUAL_SQL =
+            "SELECT m.id, " +
+            "(SELECT COUNT(*) FROM action_items a WHERE a.meeting_id = m.id) AS action_count, " +
+            "(SELECT COUNT(*) FROM action_items a WHERE a.meeting_id = m.id AND a.status <> 'COMPLETED') AS open_action_count, " +
+            "(SELECT COUNT(*) FROM participants p WHERE p.meeting_id = m.id) AS participant_count, " +
+            "(SELECT left(s.summary_text, " + SNIPPET_LENGTH + ") FROM summaries s WHERE s.meeting_id = m.id) AS summary_snippet " +
+            "FROM meetings m ";
+
+    private static final String SET_ACTUAL =
+            "UPDATE meetings m SET action_count = c.action_count, open_action_count = c.open_action_count, " +
+            "participant_count = c.participant_count, summary_snippet = c.summary_snippet ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Recompute a meeting's card fields from its child rows
+     */
+    public void refresh(Long meetingId) {
+        jdbcTemplate.update(SET_ACTUAL + "FROM (" + ACTUAL_SQL + "WHERE m.id = ?) c WHERE m.id = c.id", meetingId);
+    }
+
+    /**
+     * Shift a meeting's open action count when one of its actions is completed (-1) or reopened (1)
+     */
+    public void adjustOpenActionCount(Long meetingId, int delta) {
+        jdbcTemplate.update("UPDATE meetings SET open_action_count = open_action_count + ? WHERE id = ?", delta, meetingId);
+    }
+
+    /**
+     * Correct the meetings with ids in (afterId, untilId], of one tenant or of all tenants when tenantId is
+     * null, whose card fields differ from their child rows, returning their ids. The meetings are locked in
+     * id order before the recount, so counter updates in flight commit first and the recount, which takes
+     * its snapshot after the lock, cannot overwrite them with stale values.
+     */
+    @Transactional
+    public List<Long> reconcile(Long tenantId, long afterId, long untilId) {
+        String tenantFilter = tenantId != null ? "AND m.tenant_id = ? " : "";
+        Object[] args = tenantId != null ? new Object[]{afterId, untilId, tenantId} : new Object[]{afterId, untilId};
+
+        jdbcTemplate.queryForList(
+                "SELECT m.id FROM meetings m WHERE m.id > ? AND m.id <= ? " + tenantFilter + "ORDER BY m.id FOR UPDATE",
+                Long.class, args);
+        return jdbcTemplate.queryForList(
+                SET_ACTUAL + "FROM (" + ACTUAL_SQL + "WHERE m.id > ? AND m.id <= ? " + tenantFilter + ") c " +
+                "WHERE m.id = c.id AND (m.action_count, m.open_action_count, m.participant_count, m.summary_snippet) " +
+                "IS DISTINCT FROM (c.action_count, c.open_action_count, c.participant_count, c.summary_snippet) " +
+                "RETURNING m.id",
+                Long.class, args);
+    }
+
+    /**
+     * Highest meeting id of a tenant, or of all tenants when tenantId is null
+     */
+    public long findMaxMeetingId(Long tenantId) {
+        Long maxId = tenantId != null
+                ? jdbcTemplate.queryForObject("SELECT MAX(id) FROM meetings WHERE tenant_id = ?", Long.class, tenantId)
+                : jdbcTemplate.queryForObject("SELECT MAX(id) FROM meetings", Long.class);
+        return maxId != null ? maxId : 0;
+    }
+}
@@ -4,24 +4,37 @@ import com.recallcontext.model.entity.Meeting;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+public interface MeetingRepository extends JpaRepository<Meeting, Long>, JpaSpecificationExecutor<Meeting> {
 
     Page<Meeting> findAllByOrderByMeetingDateDesc(Pageable pageable);
 
+    Page<Meeting> findByTenantIdOrderByMeetingDateDesc(Long tenantId, Pageable pageable);
+
+    Optional<Meeting> findByIdAndTenantId(Long id, Long tenantId);
+
+    List<Meeting> findByIdInAndTenantId(Collection<Long> ids, Long tenantId);
+
     Page<Meeting> findByMeetingTypeOrderByMeetingDateDesc(String meetingType, Pageable pageable);
 
     Page<Meeting> findBySeriesNameOrderByMeetingDateDesc(String seriesName, Pageable pageable);
 
     List<Meeting> findTop5ByOrderByCreatedAtDesc();
 
+    List<Meeting> findByMeetingTypeOrderByCreatedAtDesc(String meetingType, Pageable pageable);
+
     List<Meeting> findByProcessingStatus(String processingStatus);
 
     @Query("SELECT m FROM Meeting m WHERE m.meetingDate >= :startDate AND m.meetingDate <= :endDate ORDER BY m.meetingDate DESC")
@@ -30,4 +43,57 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
                                            Pageable pageable);
 
     long countByMeetingDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT m FROM Meeting m WHERE m.tenantId = :tenantId AND m.originalFilename = :filename " +
+           "AND m.contentHash = :contentHash AND m.processingStatus <> 'FAILED' AND m.createdAt > :since " +
+           "ORDER BY m.createdAt DESC")
+    List<Meeting> findRecentDuplicates(@Param("tenantId") Long tenantId,
+                                       @Param("filename") String filename,
+                                       @Param("contentHash") String contentHash,
+                                       @Param("since") LocalDateTime since);
+
+    @Query("SELECT DISTINCT m.contentHash FROM Meeting m WHERE m.contentHash IN :contentHashes")
+    List<String> findReferencedContentHashes(@Param("contentHashes") Collection<String> contentHashes);
+
+    /**
+     * PROCESSING meetings neither updated nor heartbeated since the cutoff, i.e. held by no instance's analysis queue
+     */
+    @Query("SELECT m FROM Meeting m WHERE m.processingStatus = 'PROCESSING' AND m.updatedAt < :cutoff " +
+           "AND (m.processingHeartbeatAt IS NULL OR m.processingHeartbeatAt < :cutoff)")
+    List<Meeting> findStaleProcessing(@Param("cutoff") LocalDateTime cutoff);
+
+    List<Meeting> findByTenantIdAndProcessingStatusOrderByUpdatedAtAsc(Long tenantId, String processingStatus, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Meeting m SET m.processingStatus = :newStatus, m.processingError = :error, m.updatedAt = :now " +
+           "WHERE m.id = :id AND m.processingStatus = :expectedStatus")
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expectedStatus") String expectedStatus,
+                         @Param("newStatus") String newStatus,
+                         @Param("error") String error,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * Mark a meeting FAILED only if it is still PROCESSING and still stale, so a meeting heartbeated
+     * or completed since it was read is left untouched
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Meeting m SET m.processingStatus = 'FAILED', m.processingError = :error, m.updatedAt = :now " +
+           "WHERE m.id = :id AND m.processingStatus = 'PROCESSING' AND m.updatedAt < :cutoff " +
+           "AND (m.processingHeartbeatAt IS NULL OR m.processingHeartbeatAt < :cutoff)")
+    int failIfStale(@Param("id") Long id,
+                    @Param("cutoff") LocalDateTime cutoff,
+                    @Param("error") String error,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * Renew the heartbeat of meetings this instance has queued or is analyzing
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Meeting m SET m.processingHeartbeatAt = :now " +
+           "WHERE m.id IN :ids AND m.processingStatus = 'PROCESSING'")
+    int renewProcessingHeartbeat(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -8,5 +8,5 @@ import java.util.Optional;
 
 @Repository
 public interface MeetingSeriesRepository extends JpaRepository<MeetingSeries, Long> {
-    Optional<MeetingSeries> findBySeriesNameAndMeetingType(String seriesName, String meetingType);
+    Optional<MeetingSeries> findByTenantIdAndSeriesNameAndMeetingType(Long tenantId, String seriesName, String meetingType);
 }
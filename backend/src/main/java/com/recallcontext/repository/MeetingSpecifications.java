@@ -0,0 +1,81 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.entity.Meeting;
+import com.recallcontext.model.entity.Participant;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Composable meeting filters, matching the V8 indexes on (tenant_id, ..., meeting_date DESC, id DESC)
+ */
+public final class MeetingSpecifications {
+
+    private MeetingSpecifications() {
+    }
+
+    public static Specification<Meeting> belongsToTenant(Long tenantId) {
+        return (root, query, cb) -> cb.equal(root.get("tenantId"), tenantId);
+    }
+
+    public static Specification<Meeting> ofType(String meetingType) {
+        return (root, query, cb) -> cb.equal(root.get("meetingType"), meetingType);
+    }
+
+    public static Specification<Meeting> inSeries(String seriesName) {
+        return (root, query, cb) -> cb.equal(root.get("seriesName"), seriesName);
+    }
+
+    public static Specification<Meeting> withStatus(String processingStatus) {
+        return (root, query, cb) -> cb.equal(root.get("processingStatus"), processingStatus);
+    }
+
+    public static Specification<Meeting> onOrAfter(LocalDateTime start) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("meetingDate"), start);
+    }
+
+    public static Specification<Meeting> before(LocalDateTime end) {
+        return (root, query, cb) -> cb.lessThan(root.get("meetingDate"), end);
+    }
+
+    /**
+     * Meetings with a participant whose name starts with the prefix, ignoring case
+     */
+    public static Specification<Meeting> withParticipant(String namePrefix) {
+        String pattern = namePrefix.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> {
+            Subquery<Long> participants = query.subquery(Long.class);
+            Root<Participant> participant = participants.from(Participant.class);
+            participants.select(participant.get("meeting").get("id"))
+                    .where(
+                            cb.equal(participant.get("meeting").get("id"), root.get("id")),
+                            cb.like(cb.lower(participant.get("name")), pattern, '\\')
+                    );
+            return cb.exists(participants);
+        };
+    }
+
+    /**
+     * Keyset position: meetings strictly after (meetingDate, id) in newest-first order. The redundant
+     * meetingDate bound lets the planner use it as an index range condition instead of only a filter
+     * on the OR.
+     */
+    public static Specification<Meeting> after(LocalDateTime meetingDate, Long id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("meetingDate"), meetingDate),
+                cb.or(
+                        cb.lessThan(root.get("meetingDate"), meetingDate),
+                        cb.and(
+                                cb.equal(root.get("meetingDate"), meetingDate),
+                                cb.lessThan(root.get("id"), id)
+                        )
+                )
+        );
+    }
+}
@@ -1,12 +1,27 @@
 package com.recallcontext.repository;
 
 import com.recallcontext.model.entity.Participant;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
     List<Participant> findByMeetingId(Long meetingId);
+
+    List<Participant> findByMeetingIdInOrderByIdAsc(Collection<Long> meetingIds);
+
+    @Query("SELECT p FROM Participant p JOIN FETCH p.meeting m WHERE p.person.id = :personId " +
+            "ORDER BY m.meetingDate DESC, m.id DESC")
+    List<Participant> findWithMeetingByPersonId(@Param("personId") Long personId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Participant p WHERE p.meeting.id = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
 }
@@ -0,0 +1,35 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.entity.PersonAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PersonAliasRepository extends JpaRepository<PersonAlias, Long> {
+
+    @Query("SELECT a FROM PersonAlias a JOIN FETCH a.person WHERE a.tenantId = :tenantId AND a.alias = :alias")
+    Optional<PersonAlias> findByTenantIdAndAlias(@Param("tenantId") Long tenantId, @Param("alias") String alias);
+
+    @Query("SELECT a FROM PersonAlias a WHERE a.person.id IN :personIds ORDER BY a.alias ASC")
+    List<PersonAlias> findByPersonIdIn(@Param("personIds") Collection<Long> personIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO person_aliases (person_id, tenant_id, alias) VALUES (:personId, :tenantId, :alias) " +
+            "ON CONFLICT (tenant_id, alias) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("personId") Long personId, @Param("tenantId") Long tenantId, @Param("alias") String alias);
+
+    /**
+     * Point an alias at a person, moving it if another person had it
+     */
+    @Modifying
+    @Query(value = "INSERT INTO person_aliases (person_id, tenant_id, alias) VALUES (:personId, :tenantId, :alias) " +
+            "ON CONFLICT (tenant_id, alias) DO UPDATE SET person_id = EXCLUDED.person_id", nativeQuery = true)
+    int assign(@Param("personId") Long personId, @Param("tenantId") Long tenantId, @Param("alias") String alias);
+}
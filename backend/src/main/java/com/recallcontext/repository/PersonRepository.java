@@ -0,0 +1,36 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.entity.Person;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PersonRepository extends JpaRepository<Person, Long> {
+
+    Optional<Person> findByIdAndTenantId(Long id, Long tenantId);
+
+    Optional<Person> findByTenantIdAndNormalizedName(Long tenantId, String normalizedName);
+
+    List<Person> findByTenantIdAndNormalizedNameStartingWith(Long tenantId, String prefix);
+
+    Page<Person> findByTenantIdOrderByDisplayNameAsc(Long tenantId, Pageable pageable);
+
+    /**
+     * Insert a person unless one with the name exists, so concurrent analyses cannot collide
+     */
+    @Modifying
+    @Query(value = "INSERT INTO people (tenant_id, display_name, normalized_name) " +
+            "VALUES (:tenantId, :displayName, :normalizedName) " +
+            "ON CONFLICT (tenant_id, normalized_name) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("tenantId") Long tenantId,
+                       @Param("displayName") String displayName,
+                       @Param("normalizedName") String normalizedName);
+}
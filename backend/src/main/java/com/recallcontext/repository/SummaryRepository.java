@@ -2,11 +2,22 @@ package com.recallcontext.repository;
 
 import com.recallcontext.model.entity.Summary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SummaryRepository extends JpaRepository<Summary, Long> {
     Optional<Summary> findByMeetingId(Long meetingId);
+
+    List<Summary> findByMeetingIdIn(Collection<Long> meetingIds);
+
+    @Modifying
+    @Query("DELETE FROM Summary s WHERE s.meeting.id = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
 }
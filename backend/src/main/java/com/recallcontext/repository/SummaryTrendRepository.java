@@ -0,0 +1,94 @@
+package com.recallcontext.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Pre-aggregated sentiment and tone counts per week and month, per meeting type and per series.
+ * Incremental updates and rebuilds share the same expansion of a summary into rollup rows, keyed by
+ * the meeting's date truncated to the bucket (weeks start on Monday).
+ */
+@Repository
+@RequiredArgsConstructor
+public class SummaryTrendRepository {
+
+    private static final String EXPAND_SQL =
+            "SELECT m.tenant_id, g.granularity, d.dimension, d.dimension_value, v.metric, " +
+            "date_trunc(g.granularity, m.meeting_date)::date AS bucket_start, v.metric_value, %s AS meeting_count " +
+            "FROM %s " +
+            "CROSS JOIN (VALUES ('WEEK'), ('MONTH')) g(granularity) " +
+            "CROSS JOIN LATERAL (VALUES ('MEETING_TYPE', m.meeting_type), ('SERIES', m.series_name)) d(dimension, dimension_value) " +
+            "CROSS JOIN LATERAL (VALUES ('SENTIMENT', lower(btrim(%s))), ('TONE', lower(btrim(%s)))) v(metric, metric_value) " +
+            "WHERE d.dimension_value IS NOT NULL AND v.metric_value IS NOT NULL AND v.metric_value <> '' AND %s";
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO summary_trend_rollups " +
+            "(tenant_id, granularity, dimension, dimension_value, metric, bucket_start, metric_value, meeting_count) ";
+
+    // Adds delta to each rollup row of one meeting's summary
+    private static final String APPLY_SQL = INSERT_PREFIX +
+            String.format(EXPAND_SQL, "?::int", "meetings m", "?::varchar", "?::varchar", "m.id = ?") +
+            " ON CONFLICT (tenant_id, granularity, dimension, dimension_value, metric, bucket_start, metric_value) " +
+            "DO UPDATE SET meeting_count = summary_trend_rollups.meeting_count + EXCLUDED.meeting_count";
+
+    private static final String REBUILD_SQL = INSERT_PREFIX +
+            String.format(EXPAND_SQL, "COUNT(*)", "summaries s JOIN meetings m ON m.id = s.meeting_id",
+                    "s.sentiment", "s.tone", "m.tenant_id = ?") +
+            " GROUP BY 1, 2, 3, 4, 5, 6, 7";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Count (delta 1) or uncount (delta -1) a meeting's summary, dropping rows that reach zero
+     */
+    public void apply(Long meetingId, String sentiment, String tone, int delta) {
+        jdbcTemplate.update(APPLY_SQL, delta, sentiment, tone, meetingId);
+        if (delta < 0) {
+            jdbcTemplate.update(
+                    "DELETE FROM summary_trend_rollups r USING meetings m " +
+                    "WHERE m.id = ? AND r.tenant_id = m.tenant_id AND r.meeting_count <= 0",
+                    meetingId);
+        }
+    }
+
+    /**
+     * Recompute a tenant's rollups from its summaries. The table lock makes concurrent incremental
+     * updates wait, so none is lost or counted twice.
+     */
+    @Transactional
+    public int rebuild(Long tenantId) {
+        jdbcTemplate.execute("LOCK TABLE summary_trend_rollups IN SHARE ROW EXCLUSIVE MODE");
+        jdbcTemplate.update("DELETE FROM summary_trend_rollups WHERE tenant_id = ?", tenantId);
+        return jdbcTemplate.update(REBUILD_SQL, tenantId);
+    }
+
+    /**
+     * Rollup rows of one granularity, dimension and metric with buckets starting in [from, to],
+     * optionally for a single dimension value, ordered by dimension value and bucket
+     */
+    public List<TrendRow> find(Long tenantId, String granularity, String dimension, String dimensionValue,
+                               String metric, LocalDate from, LocalDate to) {
+        String sql = "SELECT dimension_value, bucket_start, metric_value, meeting_count FROM summary_trend_rollups " +
+                "WHERE tenant_id = ? AND granularity = ? AND dimension = ? AND metric = ? " +
+                "AND bucket_start BETWEEN ? AND ?" +
+                (dimensionValue != null ? " AND dimension_value = ?" : "") +
+                " ORDER BY dimension_value, bucket_start, metric_value";
+        Object[] args = dimensionValue != null
+                ? new Object[]{tenantId, granularity, dimension, metric, Date.valueOf(from), Date.valueOf(to), dimensionValue}
+                : new Object[]{tenantId, granularity, dimension, metric, Date.valueOf(from), Date.valueOf(to)};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new TrendRow(
+                rs.getString("dimension_value"),
+                rs.getDate("bucket_start").toLocalDate(),
+                rs.getString("metric_value"),
+                rs.getLong("meeting_count")), args);
+    }
+
+    public record TrendRow(String dimensionValue, LocalDate bucketStart, String metricValue, long meetingCount) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.entity.Tenant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TenantRepository extends JpaRepository<Tenant, Long> {
+    Optional<Tenant> findByTenantKey(String tenantKey);
+}
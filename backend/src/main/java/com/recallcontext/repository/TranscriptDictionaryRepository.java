@@ -0,0 +1,99 @@
+package com.recallcontext.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Versioned transcript compression dictionaries.
+ * Uses its own JdbcTemplate on the DataSource so the blob store, which decodes through these
+ * dictionaries, does not depend on Flyway and stays usable from Java migrations.
+ */
+@Repository
+public class TranscriptDictionaryRepository {
+
+    private static final RowMapper<StoredDictionary> ROW_MAPPER = (rs, rowNum) -> new StoredDictionary(
+            rs.getLong("id"),
+            rs.getString("meeting_type"),
+            rs.getInt("version"),
+            rs.getBytes("dictionary"),
+            rs.getInt("sample_count"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TranscriptDictionaryRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<StoredDictionary> findById(long id) {
+        return jdbcTemplate.query("SELECT * FROM transcript_dictionaries WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    public Optional<StoredDictionary> findLatest(String meetingType) {
+        return jdbcTemplate.query(
+                "SELECT * FROM transcript_dictionaries WHERE meeting_type = ? ORDER BY version DESC LIMIT 1",
+                ROW_MAPPER, meetingType).stream().findFirst();
+    }
+
+    /**
+     * Latest dictionary of every meeting type
+     */
+    public List<StoredDictionary> findAllLatest() {
+        return jdbcTemplate.query(
+                "SELECT DISTINCT ON (meeting_type) * FROM transcript_dictionaries " +
+                "ORDER BY meeting_type, version DESC", ROW_MAPPER);
+    }
+
+    /**
+     * Store a dictionary as the next version for its meeting type. Concurrent trainings of the same type
+     * are serialised by a transaction-scoped advisory lock, so they cannot both pick the same version.
+     */
+    @Transactional
+    public StoredDictionary insertNextVersion(String meetingType, byte[] dictionary, int sampleCount) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext('transcript_dictionaries:' || ?))",
+                rs -> null, meetingType);
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO transcript_dictionaries (meeting_type, version, dictionary, sample_count) " +
+                "VALUES (?, (SELECT COALESCE(MAX(version), 0) + 1 FROM transcript_dictionaries WHERE meeting_type = ?), ?, ?) " +
+                "RETURNING *",
+                ROW_MAPPER, meetingType, meetingType, dictionary, sampleCount);
+    }
+
+    /**
+     * Store transcripts in a temporary table and measure how Postgres holds them: total stored size
+     * after TOAST compression, and the fastest of several full reads that force decompression
+     */
+    @Transactional
+    public ToastMeasurement measureToast(List<String> samples, int iterations) {
+        jdbcTemplate.execute("CREATE TEMP TABLE transcript_toast_benchmark (body TEXT) ON COMMIT DROP");
+        jdbcTemplate.batchUpdate("INSERT INTO transcript_toast_benchmark (body) VALUES (?)",
+                samples, 100, (ps, sample) -> ps.setString(1, sample));
+
+        Long storedBytes = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(pg_column_size(body)), 0) FROM transcript_toast_benchmark", Long.class);
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            // Concatenation detoasts the full value, unlike octet_length
+            jdbcTemplate.queryForObject("SELECT SUM(length(body || '')) FROM transcript_toast_benchmark", Long.class);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+        return new ToastMeasurement(storedBytes, bestNanos);
+    }
+
+    public record StoredDictionary(long id, String meetingType, int version, byte[] dictionary,
+                                   int sampleCount, LocalDateTime createdAt) {
+    }
+
+    public record ToastMeasurement(long storedBytes, long decodeNanos) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.recallcontext.repository;
+
+import com.recallcontext.model.entity.UploadIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UploadIdempotencyKeyRepository extends JpaRepository<UploadIdempotencyKey, Long> {
+
+    Optional<UploadIdempotencyKey> findByTenantIdAndIdempotencyKey(Long tenantId, String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UploadIdempotencyKey k SET k.meetingId = :meetingId WHERE k.id = :id")
+    int attachMeeting(@Param("id") Long id, @Param("meetingId") Long meetingId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UploadIdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,60 @@
+package com.recallcontext.service;
+
+import com.recallcontext.model.entity.ActionItem;
+import com.recallcontext.model.entity.Meeting;
+import com.recallcontext.repository.ActionItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * Builds the similarity index used to recognise extracted actions that repeat an open action
+ * of the same series and assignee
+ */
+@Service
+@Slf4j
+public class ActionDeduplicationService {
+
+    private final ActionItemRepository actionItemRepository;
+    private final boolean enabled;
+    private final double similarityThreshold;
+
+    public ActionDeduplicationService(
+            ActionItemRepository actionItemRepository,
+            @Value("${actions.dedupe.enabled}") boolean enabled,
+            @Value("${actions.dedupe.similarity-threshold}") double similarityThreshold
+    ) {
+        this.actionItemRepository = actionItemRepository;
+        this.enabled = enabled;
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    /**
+     * Index of the given actions with the configured threshold, regardless of whether deduplication is enabled
+     */
+    public ActionSimilarityIndex index(Collection<ActionItem> actions) {
+        ActionSimilarityIndex index = new ActionSimilarityIndex(similarityThreshold);
+        actions.forEach(index::add);
+        return index;
+    }
+
+    /**
+     * Index of the open actions from the meeting's series, excluding the meeting itself.
+     * Empty when deduplication is disabled or the meeting has no series.
+     */
+    public ActionSimilarityIndex indexOpenActions(Meeting meeting) {
+        ActionSimilarityIndex index = new ActionSimilarityIndex(similarityThreshold);
+        if (!enabled || meeting.getSeries() == null) {
+            return index;
+        }
+
+        var openActions = actionItemRepository.findOpenInSeriesOutsideMeeting(
+                meeting.getSeries().getId(), meeting.getId());
+        openActions.forEach(index::add);
+        log.debug("Indexed {} open actions of series {} for meeting {}",
+                openActions.size(), meeting.getSeries().getId(), meeting.getId());
+        return index;
+    }
+}
@@ -0,0 +1,9 @@
+package com.recallcontext.service;
+
+import java.util.List;
+
+/**
+ * Published when action items are created or edited
+ */
+public record ActionItemsChangedEvent(List<Long> actionIds, boolean created) {
+}
@@ -0,0 +1,179 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.ReminderProperties;
+import com.recallcontext.model.entity.ActionItem;
+import com.recallcontext.repository.ActionItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires due-date reminders for open action items.
+ * <p>
+ * Upcoming reminders are loaded once at startup and then kept current from
+ * {@link ActionItemsChangedEvent}s, so the table is never rescanned. Each reminder is a delayed task on
+ * a single timer thread whose queue is ordered by fire time. Deleted or completed actions are not
+ * tracked; the action is re-read when its reminder fires and dropped if it no longer applies.
+ * <p>
+ * Every instance schedules every reminder. When one fires, the instances race to record it in the
+ * change feed under a key of the action and due date; only the instance that records it delivers it
+ * to the sinks, so each reminder reaches each sink once.
+ */
+@Service
+@Slf4j
+public class ActionReminderScheduler {
+
+    private final ActionItemRepository actionItemRepository;
+    private final ChangeFeedService changeFeedService;
+    private final List<ReminderSink> sinks;
+    private final ReminderProperties properties;
+
+    private final ScheduledThreadPoolExecutor timer;
+    private final Map<Long, PendingReminder> pending = new ConcurrentHashMap<>();
+
+    public ActionReminderScheduler(ActionItemRepository actionItemRepository, ChangeFeedService changeFeedService,
+                                   List<ReminderSink> sinks, ReminderProperties properties) {
+        this.actionItemRepository = actionItemRepository;
+        this.changeFeedService = changeFeedService;
+        this.sinks = sinks;
+        this.properties = properties;
+
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "action-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUpcomingReminders() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        List<ActionItem> upcoming = actionItemRepository.findOpenDueOnOrAfter(LocalDate.now());
+        upcoming.forEach(this::reschedule);
+        log.info("Scheduled {} action reminders ({} sinks)", pending.size(), sinks.size());
+    }
+
+    /**
+     * Reschedule reminders for created or edited actions once their changes are committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActionItemsChanged(ActionItemsChangedEvent event) {
+        if (!properties.isEnabled() || event.actionIds().isEmpty()) {
+            return;
+        }
+
+        Set<Long> missing = new HashSet<>(event.actionIds());
+        for (ActionItem action : actionItemRepository.findAllById(event.actionIds())) {
+            missing.remove(action.getId());
+            reschedule(action);
+        }
+        missing.forEach(this::cancel);
+    }
+
+    /**
+     * Reminders currently waiting to fire
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private synchronized void reschedule(ActionItem action) {
+        LocalDate dueDate = action.getDueDate();
+        if ("COMPLETED".equals(action.getStatus()) || dueDate == null) {
+            cancel(action.getId());
+            return;
+        }
+
+        PendingReminder current = pending.get(action.getId());
+        if (current != null && current.dueDate().equals(dueDate)) {
+            return;
+        }
+        cancel(action.getId());
+
+        LocalDateTime fireAt = dueDate.atTime(properties.getTimeOfDay()).minus(properties.getLeadTime());
+        long delayMillis = Duration.between(LocalDateTime.now(), fireAt).toMillis();
+        if (delayMillis < 0) {
+            // Reminder time already passed; reminders are not replayed
+            return;
+        }
+
+        Long actionId = action.getId();
+        ScheduledFuture<?> future = timer.schedule(() -> fire(actionId, dueDate), delayMillis, TimeUnit.MILLISECONDS);
+        pending.put(actionId, new PendingReminder(dueDate, future));
+    }
+
+    private synchronized void cancel(Long actionId) {
+        PendingReminder removed = pending.remove(actionId);
+        if (removed != null) {
+            removed.future().cancel(false);
+        }
+    }
+
+    private void fire(Long actionId, LocalDate dueDate) {
+        pending.computeIfPresent(actionId, (id, reminder) -> reminder.dueDate().equals(dueDate) ? null : reminder);
+
+        try {
+            actionItemRepository.findWithMeetingByIdIn(List.of(actionId)).stream()
+                    .filter(action -> !"COMPLETED".equals(action.getStatus()) && dueDate.equals(action.getDueDate()))
+                    .findFirst()
+                    .ifPresent(this::send);
+        } catch (Exception e) {
+            log.error("Failed to fire reminder for action {}", actionId, e);
+        }
+    }
+
+    private void send(ActionItem action) {
+        ReminderSink.Reminder reminder = new ReminderSink.Reminder(
+                action.getId(),
+                action.getMeeting().getTenantId(),
+                action.getMeeting().getId(),
+                action.getDescription(),
+                action.getAssignee(),
+                action.getPriority(),
+                action.getDueDate(),
+                LocalDateTime.now()
+        );
+
+        // Recording the REMINDER event is the claim: another instance that recorded it first delivers it
+        if (!changeFeedService.publish(reminder.tenantId(), "ACTION_ITEM", reminder.actionId(), "REMINDER", reminder,
+                "REMINDER:" + reminder.actionId() + ":" + reminder.dueDate())) {
+            log.debug("Reminder for action {} was claimed by another instance", action.getId());
+            return;
+        }
+
+        for (ReminderSink sink : sinks) {
+            try {
+                sink.send(reminder);
+            } catch (Exception e) {
+                log.warn("Reminder sink {} failed for action {}", sink.getClass().getSimpleName(), action.getId(), e);
+            }
+        }
+    }
+
+    private record PendingReminder(LocalDate dueDate, ScheduledFuture<?> future) {
+    }
+}
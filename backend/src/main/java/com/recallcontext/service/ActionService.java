@@ -1,41 +1,169 @@
 package com.recallcontext.service;
 
+import com.recallcontext.config.BatchReadProperties;
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.InvalidQueryParameterException;
+import com.recallcontext.model.dto.ActionItemBatchResponse;
 import com.recallcontext.model.dto.ActionItemResponse;
+import com.recallcontext.model.dto.ActionSearchRequest;
+import com.recallcontext.model.dto.BulkActionUpdateRequest;
+import com.recallcontext.model.dto.BulkActionUpdateResponse;
 import com.recallcontext.model.dto.ActionUpdateRequest;
 import com.recallcontext.model.entity.ActionItem;
+import com.recallcontext.model.entity.Person;
+import com.recallcontext.repository.ActionItemBatchRepository;
 import com.recallcontext.repository.ActionItemRepository;
+import com.recallcontext.repository.ActionItemSpecifications;
+import com.recallcontext.repository.MeetingCardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ActionService {
 
     private final ActionItemRepository actionItemRepository;
+    private final ActionItemBatchRepository actionItemBatchRepository;
+    private final MeetingCardRepository meetingCardRepository;
+    private final PersonDirectoryService personDirectoryService;
+    private final BatchReadProperties batchReadProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all action items (paginated)
      */
     public Page<ActionItemResponse> getAllActions(Pageable pageable) {
-        return actionItemRepository.findAllByOrderByCreatedAtDesc(pageable)
+        return actionItemRepository.findByTenantIdOrderByCreatedAtDesc(TenantContext.getTenantId(), pageable)
                 .map(this::convertToResponse);
     }
 
+    /**
+     * Search the current tenant's action items, soonest due first (undated last)
+     */
+    public Page<ActionItemResponse> searchActions(ActionSearchRequest filter, int page, int size) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new InvalidQueryParameterException("dueFrom must not be after dueTo");
+        }
+
+        Optional<Person> assignee = filter.getAssignee() != null
+                ? personDirectoryService.find(TenantContext.getTenantId(), filter.getAssignee())
+                : Optional.empty();
+        if (assignee.isPresent() && isOverdueOnly(filter)) {
+            return searchOverdueForPerson(assignee.get().getId(), page, size);
+        }
+
+        Specification<ActionItem> spec = ActionItemSpecifications.belongsToTenant(TenantContext.getTenantId());
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            spec = spec.and(ActionItemSpecifications.statusIn(filter.getStatus()));
+        }
+        if (Boolean.TRUE.equals(filter.getOpen()) || Boolean.TRUE.equals(filter.getOverdue())) {
+            spec = spec.and(ActionItemSpecifications.isOpen());
+        }
+        if (Boolean.TRUE.equals(filter.getOverdue())) {
+            spec = spec.and(ActionItemSpecifications.dueBefore(LocalDate.now()));
+        }
+        if (filter.getAssignee() != null) {
+            // Through the directory, so "Jane" also finds actions assigned to "Jane Smith"
+            spec = spec.and(assignee
+                    .map(person -> ActionItemSpecifications.assignedToPerson(person.getId()))
+                    .orElseGet(() -> ActionItemSpecifications.assignedTo(filter.getAssignee())));
+        }
+        if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+            spec = spec.and(ActionItemSpecifications.priorityIn(filter.getPriority()));
+        }
+        if (filter.getDueFrom() != null) {
+            spec = spec.and(ActionItemSpecifications.dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            spec = spec.and(ActionItemSpecifications.dueOnOrBefore(filter.getDueTo()));
+        }
+        if (filter.getMeetingType() != null) {
+            spec = spec.and(ActionItemSpecifications.fromMeetingType(filter.getMeetingType()));
+        }
+        if (filter.getSeriesName() != null) {
+            spec = spec.and(ActionItemSpecifications.fromSeries(filter.getSeriesName()));
+        }
+
+        // Postgres sorts NULL due dates last in ascending order, matching the index order
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id")));
+        return actionItemRepository.findAll(spec, pageable).map(this::convertToResponse);
+    }
+
+    /**
+     * A person's overdue actions with no other filter: the page of ids comes from an index-only scan
+     * of the partial open-actions index, and only that page's rows are loaded. The person was resolved
+     * within the current tenant, so no tenant join is needed.
+     */
+    private Page<ActionItemResponse> searchOverdueForPerson(Long personId, int page, int size) {
+        Page<Long> ids = actionItemRepository.findOpenIdsByAssigneePersonDueBefore(
+                personId, LocalDate.now(), PageRequest.of(page, size));
+
+        Map<Long, ActionItem> found = actionItemRepository.findWithMeetingByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(ActionItem::getId, Function.identity()));
+        List<ActionItemResponse> actions = ids.getContent().stream()
+                .filter(found::containsKey)
+                .map(id -> convertToResponse(found.get(id)))
+                .collect(Collectors.toList());
+        return new PageImpl<>(actions, ids.getPageable(), ids.getTotalElements());
+    }
+
+    private static boolean isOverdueOnly(ActionSearchRequest filter) {
+        return Boolean.TRUE.equals(filter.getOverdue())
+                && (filter.getStatus() == null || filter.getStatus().isEmpty())
+                && (filter.getPriority() == null || filter.getPriority().isEmpty())
+                && filter.getDueFrom() == null && filter.getDueTo() == null
+                && filter.getMeetingType() == null && filter.getSeriesName() == null;
+    }
+
     /**
      * Get action by ID
      */
     public ActionItemResponse getActionById(Long id) {
-        ActionItem action = actionItemRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Action not found with ID: " + id));
+        ActionItem action = findAction(id);
 
         return convertToResponse(action);
     }
 
+    /**
+     * Get several actions by ID with one query, in request order, listing the IDs not found
+     */
+    public ActionItemBatchResponse getActionsByIds(List<Long> ids) {
+        List<Long> requested = BatchIds.distinctInOrder(ids, batchReadProperties.getMaxIds());
+
+        Map<Long, ActionItem> found = actionItemRepository.findByIdInAndTenantId(requested, TenantContext.getTenantId())
+                .stream()
+                .collect(Collectors.toMap(ActionItem::getId, Function.identity()));
+
+        return ActionItemBatchResponse.builder()
+                .actions(requested.stream()
+                        .filter(found::containsKey)
+                        .map(id -> convertToResponse(found.get(id)))
+                        .collect(Collectors.toList()))
+                .missingIds(requested.stream()
+                        .filter(id -> !found.containsKey(id))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
     /**
      * Update action item
      */
@@ -43,8 +171,8 @@ public class ActionService {
     public ActionItemResponse updateAction(Long id, ActionUpdateRequest request) {
         log.info("Updating action {}", id);
 
-        ActionItem action = actionItemRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Action not found with ID: " + id));
+        ActionItem action = findAction(id);
+        boolean wasOpen = !"COMPLETED".equals(action.getStatus());
 
         // Update fields if provided
         if (request.getStatus() != null) {
@@ -52,6 +180,7 @@ public class ActionService {
         }
         if (request.getAssignee() != null) {
             action.setAssignee(request.getAssignee());
+            action.setAssigneePerson(personDirectoryService.resolve(TenantContext.getTenantId(), request.getAssignee()));
         }
         if (request.getDueDate() != null) {
             action.setDueDate(request.getDueDate());
@@ -63,12 +192,111 @@ public class ActionService {
             action.setNotes(request.getNotes());
         }
 
-        action = actionItemRepository.save(action);
+        // Flushing bumps the version now, so the response carries the version a bulk update must send
+        action = actionItemRepository.saveAndFlush(action);
+
+        // The version check at flush guarantees wasOpen reflected the row this update replaces
+        boolean isOpen = !"COMPLETED".equals(action.getStatus());
+        if (wasOpen != isOpen) {
+            meetingCardRepository.adjustOpenActionCount(action.getMeeting().getId(), isOpen ? 1 : -1);
+        }
+        eventPublisher.publishEvent(new ActionItemsChangedEvent(List.of(action.getId()), false));
         log.info("Updated action {}", id);
 
         return convertToResponse(action);
     }
 
+    /**
+     * Apply status, assignee, priority and due-date changes to many actions with one batched UPDATE.
+     * Each change only applies if the action still has the version the client read; otherwise it is
+     * reported as a conflict with the current version.
+     */
+    @Transactional
+    public BulkActionUpdateResponse bulkUpdateActions(BulkActionUpdateRequest request) {
+        List<BulkActionUpdateRequest.ActionPatch> patches = request.getUpdates();
+        List<Long> ids = BatchIds.uniqueInOrder(
+                patches.stream().map(BulkActionUpdateRequest.ActionPatch::getId).toList(),
+                batchReadProperties.getMaxIds());
+        Long tenantId = TenantContext.getTenantId();
+        log.info("Bulk updating {} actions", patches.size());
+
+        // Locked first, so only the assignees of patches that will apply are resolved into people
+        Map<Long, ActionItemBatchRepository.LockedAction> locked = actionItemBatchRepository.lockActions(tenantId, ids);
+        Map<String, Person> assignees = personDirectoryService.resolveAll(tenantId, patches.stream()
+                .filter(patch -> locked.containsKey(patch.getId()) && locked.get(patch.getId()).accepts(patch))
+                .map(BulkActionUpdateRequest.ActionPatch::getAssignee)
+                .toList());
+        Map<String, Long> assigneePersonIds = assignees.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getId()));
+
+        boolean[] applied = actionItemBatchRepository.updateAll(
+                tenantId, patches, locked, assigneePersonIds, LocalDateTime.now());
+
+        List<Long> updatedIds = new ArrayList<>();
+        for (int i = 0; i < patches.size(); i++) {
+            if (applied[i]) {
+                updatedIds.add(patches.get(i).getId());
+            }
+        }
+
+        Map<Long, ActionItem> updated = updatedIds.isEmpty()
+                ? Map.of()
+                : actionItemRepository.findByIdInAndTenantId(updatedIds, tenantId).stream()
+                        .collect(Collectors.toMap(ActionItem::getId, Function.identity()));
+
+        List<BulkActionUpdateResponse.ActionResult> results = new ArrayList<>();
+        int conflicts = 0;
+        int notFound = 0;
+        for (int i = 0; i < patches.size(); i++) {
+            Long id = patches.get(i).getId();
+            BulkActionUpdateResponse.ActionResult.ActionResultBuilder result =
+                    BulkActionUpdateResponse.ActionResult.builder().id(id);
+            if (applied[i]) {
+                result.status("UPDATED").action(convertToResponse(updated.get(id)));
+            } else if (locked.containsKey(id)) {
+                // Still locked, so the version read before the batch is the current one
+                conflicts++;
+                result.status("CONFLICT").currentVersion(locked.get(id).version());
+            } else {
+                notFound++;
+                result.status("NOT_FOUND");
+            }
+            results.add(result.build());
+        }
+
+        if (!updatedIds.isEmpty()) {
+            eventPublisher.publishEvent(new ActionItemsChangedEvent(updatedIds, false));
+        }
+
+        log.info("Bulk update finished: {} updated, {} conflicts, {} not found",
+                updatedIds.size(), conflicts, notFound);
+
+        return BulkActionUpdateResponse.builder()
+                .requested(patches.size())
+                .updated(updatedIds.size())
+                .conflicts(conflicts)
+                .notFound(notFound)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Actions assigned to a person, soonest due first (undated last)
+     */
+    public List<ActionItemResponse> getActionsAssignedTo(Long personId, int limit) {
+        return actionItemRepository.findWithMeetingByAssigneePersonId(personId, PageRequest.of(0, limit)).stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Find an action item belonging to the current tenant
+     */
+    private ActionItem findAction(Long id) {
+        return actionItemRepository.findByIdAndTenantId(id, TenantContext.getTenantId())
+                .orElseThrow(() -> new RuntimeException("Action not found with ID: " + id));
+    }
+
     /**
      * Convert ActionItem entity to ActionItemResponse DTO
      */
@@ -80,6 +308,7 @@ public class ActionService {
                 .meetingDate(action.getMeeting().getMeetingDate())
                 .description(action.getDescription())
                 .assignee(action.getAssignee())
+                .assigneePersonId(action.getAssigneePerson() != null ? action.getAssigneePerson().getId() : null)
                 .dueDate(action.getDueDate())
                 .status(action.getStatus())
                 .priority(action.getPriority())
@@ -87,6 +316,7 @@ public class ActionService {
                 .completedAt(action.getCompletedAt())
                 .createdAt(action.getCreatedAt())
                 .updatedAt(action.getUpdatedAt())
+                .version(action.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,221 @@
+package com.recallcontext.service;
+
+import com.recallcontext.model.entity.ActionItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash/LSH index of action item descriptions, partitioned by assignee. Actions linked to a person
+ * are partitioned by person, so "Sam" and "Sam Lee" match when they resolve to the same person;
+ * unlinked actions fall back to their assignee name.
+ * <p>
+ * A description is reduced to its set of content words and summarised by a 64-value MinHash
+ * signature; the fraction of equal values estimates the Jaccard similarity of two word sets.
+ * Signatures are split into 16 bands of 4, and only actions sharing at least one whole band with
+ * the query are compared, so a lookup touches a handful of candidates rather than every action.
+ * With these bands, pairs at 0.6 similarity are found about 90% of the time.
+ */
+public class ActionSimilarityIndex {
+
+    private static final int HASHES = 64;
+    private static final int BANDS = 16;
+    private static final int ROWS = HASHES / BANDS;
+
+    private static final long[] MULTIPLIERS = new long[HASHES];
+    private static final long[] OFFSETS = new long[HASHES];
+
+    static {
+        // Fixed seed so signatures are stable across runs
+        SplittableRandom random = new SplittableRandom(0x6d696e68617368L);
+        for (int i = 0; i < HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1L;
+            OFFSETS[i] = random.nextLong();
+        }
+    }
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into", "is", "it", "its",
+            "of", "on", "or", "our", "the", "their", "them", "they", "this", "that", "to", "up", "we", "with",
+            "about", "regarding", "re", "will", "should", "need", "needs");
+
+    private final double threshold;
+    private final Map<String, List<Map<Long, List<Entry>>>> bandsByAssignee = new HashMap<>();
+
+    public ActionSimilarityIndex(double threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Index an action; it need not be saved yet, so actions created earlier in the same analysis match too
+     */
+    public void add(ActionItem action) {
+        long[] signature = signature(action.getDescription());
+        if (signature == null) {
+            return;
+        }
+
+        Long personId = action.getAssigneePerson() != null ? action.getAssigneePerson().getId() : null;
+        String key = personId != null ? personKey(personId) : assigneeKey(action.getAssignee());
+        List<Map<Long, List<Entry>>> bands = bandsByAssignee.computeIfAbsent(key, k -> {
+            List<Map<Long, List<Entry>>> created = new ArrayList<>(BANDS);
+            for (int band = 0; band < BANDS; band++) {
+                created.add(new HashMap<>());
+            }
+            return created;
+        });
+
+        Entry entry = new Entry(action, signature);
+        for (int band = 0; band < BANDS; band++) {
+            bands.get(band).computeIfAbsent(bandKey(signature, band), key -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    /**
+     * The indexed action of the same assignee most similar to the description, if it reaches the threshold.
+     * With a resolved person, actions of that person and unlinked actions with the same name are compared.
+     */
+    public Optional<ActionItem> findDuplicate(Long assigneePersonId, String assignee, String description) {
+        long[] signature = signature(description);
+        if (signature == null) {
+            return Optional.empty();
+        }
+
+        // By entry rather than action id, since unsaved actions have none yet
+        Set<Entry> candidates = new LinkedHashSet<>();
+        if (assigneePersonId != null) {
+            collectCandidates(bandsByAssignee.get(personKey(assigneePersonId)), signature, candidates);
+        }
+        collectCandidates(bandsByAssignee.get(assigneeKey(assignee)), signature, candidates);
+
+        Entry best = null;
+        double bestSimilarity = threshold;
+        for (Entry candidate : candidates) {
+            double similarity = similarity(signature, candidate.signature());
+            if (similarity >= bestSimilarity) {
+                best = candidate;
+                bestSimilarity = similarity;
+            }
+        }
+        return Optional.ofNullable(best).map(Entry::action);
+    }
+
+    private static void collectCandidates(List<Map<Long, List<Entry>>> bands, long[] signature,
+                                          Set<Entry> candidates) {
+        if (bands == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            List<Entry> bucket = bands.get(band).get(bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+    }
+
+    /**
+     * MinHash signature of a description's content words, or null if it has none
+     */
+    static long[] signature(String description) {
+        Set<String> words = words(description);
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        long[] signature = new long[HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String word : words) {
+            long base = mix(word.hashCode());
+            for (int i = 0; i < HASHES; i++) {
+                long hash = mix(base * MULTIPLIERS[i] + OFFSETS[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Lower-cased words without stop words, with a plain plural "s" removed
+     */
+    static Set<String> words(String description) {
+        Set<String> words = new HashSet<>();
+        if (description == null) {
+            return words;
+        }
+        for (String token : description.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() < 2 || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            if (token.length() > 3 && token.endsWith("s") && !token.endsWith("ss")) {
+                token = token.substring(0, token.length() - 1);
+            }
+            words.add(token);
+        }
+        return words;
+    }
+
+    private static double similarity(long[] a, long[] b) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    private static long bandKey(long[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = mix(key * 31 + signature[row]);
+        }
+        return key;
+    }
+
+    private static String assigneeKey(String assignee) {
+        return "name:" + (assignee == null ? "" : assignee.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static String personKey(Long personId) {
+        return "person:" + personId;
+    }
+
+    // SplitMix64 finaliser
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Compared by identity: each indexed action has exactly one entry, and ActionItem equality is by value
+     */
+    private static final class Entry {
+        private final ActionItem action;
+        private final long[] signature;
+
+        private Entry(ActionItem action, long[] signature) {
+            this.action = action;
+            this.signature = signature;
+        }
+
+        ActionItem action() {
+            return action;
+        }
+
+        long[] signature() {
+            return signature;
+        }
+    }
+}
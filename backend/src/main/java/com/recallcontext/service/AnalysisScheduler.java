@@ -0,0 +1,293 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.AnalysisSchedulerProperties;
+import com.recallcontext.model.dto.AnalysisQueueResponse;
+import com.recallcontext.model.entity.Tenant;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs AI analyses on a fixed worker pool, sharing it fairly between tenants.
+ * <p>
+ * Tenants are picked by weighted fair queueing: every dispatch advances the tenant's virtual
+ * time by 1/weight and the eligible tenant with the smallest virtual time goes next, so a
+ * tenant with a bulk import cannot crowd out the others. A tenant at its concurrency cap is
+ * skipped until one of its analyses finishes.
+ * <p>
+ * Within a tenant, jobs are queued FIFO per priority level and the job with the highest
+ * effective priority goes next: its priority plus one level per aging step waited, capped at
+ * the configured maximum. Routine work that has waited still overtakes newer work of nearby
+ * priority, but aging never lifts it above a level more than the cap higher, so an urgent job
+ * always overtakes a backlog of routine work however old.
+ */
+@Service
+@Slf4j
+public class AnalysisScheduler {
+
+    private final AnalysisSchedulerProperties properties;
+    private final ExecutorService workers;
+    private final int workerCount;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchable = lock.newCondition();
+    private final Map<Long, TenantQueue> tenantQueues = new HashMap<>(); // guarded by lock
+    private double virtualClock; // guarded by lock
+
+    // Jobs per meeting queued or running, counted so that one finishing does not hide another
+    private final Map<Long, Integer> scheduledMeetingIds = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completedTotal = new AtomicLong();
+    private final AtomicLong failedTotal = new AtomicLong();
+
+    public AnalysisScheduler(AnalysisSchedulerProperties properties, TranscriptParserService parserService) {
+        this.properties = properties;
+
+        properties.getPriorities().keySet().stream()
+                .filter(type -> !parserService.isValidMeetingType(type))
+                .forEach(type -> log.warn("Analysis priority configured for unknown meeting type: {}", type));
+
+        this.workerCount = Math.max(1, properties.getWorkers());
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "analysis-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.submit(this::runWorker);
+        }
+        log.info("Started {} analysis workers", workerCount);
+    }
+
+    /**
+     * Queue an analysis task for a tenant's meeting; the future completes when the task has run
+     */
+    public CompletableFuture<Void> submit(Tenant tenant, Long meetingId, String meetingType, Runnable task) {
+        int priority = properties.priorityOf(meetingType);
+
+        AnalysisJob job = new AnalysisJob(tenant.getId(), meetingId, meetingType, priority, System.nanoTime(),
+                sequence.incrementAndGet(), task, new CompletableFuture<>());
+        scheduledMeetingIds.merge(meetingId, 1, Integer::sum);
+
+        lock.lock();
+        try {
+            TenantQueue queue = tenantQueues.computeIfAbsent(tenant.getId(), id -> new TenantQueue(tenant.getTenantKey()));
+            queue.weight = Math.max(1, tenant.getSchedulingWeight());
+            queue.maxConcurrent = tenant.getMaxConcurrentAnalyses() != null
+                    ? tenant.getMaxConcurrentAnalyses()
+                    : properties.getDefaultTenantMaxConcurrent();
+
+            // An idle tenant rejoins at the current virtual time instead of spending banked credit
+            if (queue.isEmpty() && queue.active == 0) {
+                queue.virtualTime = Math.max(queue.virtualTime, virtualClock);
+            }
+            queue.add(job);
+            dispatchable.signal();
+
+            log.debug("Queued analysis for meeting {} (tenant: {}, type: {}, priority: {}, tenant queue depth: {})",
+                    meetingId, queue.tenantKey, meetingType, priority, queue.size);
+        } finally {
+            lock.unlock();
+        }
+        return job.future();
+    }
+
+    /**
+     * Meetings queued or being analyzed by this instance
+     */
+    public List<Long> scheduledMeetingIds() {
+        return new ArrayList<>(scheduledMeetingIds.keySet());
+    }
+
+    /**
+     * Current worker utilisation and queue depth
+     */
+    public AnalysisQueueResponse getQueueStatus() {
+        Map<String, Long> queuedByType = new TreeMap<>();
+        Map<String, Integer> queuedByTenant = new TreeMap<>();
+        Map<String, Integer> activeByTenant = new TreeMap<>();
+        int queued = 0;
+
+        lock.lock();
+        try {
+            for (TenantQueue queue : tenantQueues.values()) {
+                queued += queue.size;
+                queuedByTenant.put(queue.tenantKey, queue.size);
+                activeByTenant.put(queue.tenantKey, queue.active);
+                for (ArrayDeque<AnalysisJob> level : queue.levels.values()) {
+                    for (AnalysisJob job : level) {
+                        queuedByType.merge(job.meetingType(), 1L, Long::sum);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return AnalysisQueueResponse.builder()
+                .workers(workerCount)
+                .active(active.get())
+                .queued(queued)
+                .queuedByMeetingType(queuedByType)
+                .queuedByTenant(queuedByTenant)
+                .activeByTenant(activeByTenant)
+                .priorities(new TreeMap<>(properties.getPriorities()))
+                .completedTotal(completedTotal.get())
+                .failedTotal(failedTotal.get())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("Stopping analysis workers");
+        workers.shutdownNow();
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            AnalysisJob job;
+            try {
+                job = nextJob();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            active.incrementAndGet();
+            try {
+                job.task().run();
+                completedTotal.incrementAndGet();
+                job.future().complete(null);
+            } catch (Throwable t) {
+                failedTotal.incrementAndGet();
+                job.future().completeExceptionally(t);
+            } finally {
+                scheduledMeetingIds.computeIfPresent(job.meetingId(), (id, count) -> count > 1 ? count - 1 : null);
+                active.decrementAndGet();
+                finished(job);
+            }
+        }
+    }
+
+    /**
+     * Take the next job from the eligible tenant with the smallest virtual time
+     */
+    private AnalysisJob nextJob() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                TenantQueue next = null;
+                for (TenantQueue queue : tenantQueues.values()) {
+                    if (queue.isEmpty() || queue.active >= queue.maxConcurrent) {
+                        continue;
+                    }
+                    if (next == null || queue.virtualTime < next.virtualTime) {
+                        next = queue;
+                    }
+                }
+
+                if (next != null) {
+                    virtualClock = next.virtualTime;
+                    next.virtualTime += 1.0 / next.weight;
+                    next.active++;
+                    return next.poll(System.nanoTime(), properties.getAgingStep().toNanos(),
+                            properties.getMaxAgingLevels());
+                }
+                dispatchable.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void finished(AnalysisJob job) {
+        lock.lock();
+        try {
+            TenantQueue queue = tenantQueues.get(job.tenantId());
+            queue.active--;
+            if (queue.isEmpty() && queue.active == 0) {
+                tenantQueues.remove(job.tenantId());
+            }
+            // A freed tenant slot may unblock a worker waiting on a capped tenant
+            dispatchable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class TenantQueue {
+        private final String tenantKey;
+        // FIFO queue per priority level; the head of each level is its longest waiting job
+        private final Map<Integer, ArrayDeque<AnalysisJob>> levels = new TreeMap<>();
+        private int size;
+        private int weight = 1;
+        private int maxConcurrent = Integer.MAX_VALUE;
+        private int active;
+        private double virtualTime;
+
+        private TenantQueue(String tenantKey) {
+            this.tenantKey = tenantKey;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void add(AnalysisJob job) {
+            levels.computeIfAbsent(job.priority(), priority -> new ArrayDeque<>()).add(job);
+            size++;
+        }
+
+        /**
+         * Remove the level head with the highest effective priority, the older one on a tie
+         */
+        private AnalysisJob poll(long now, long agingStepNanos, int maxAgingLevels) {
+            AnalysisJob next = null;
+            long nextEffective = Long.MIN_VALUE;
+            for (ArrayDeque<AnalysisJob> level : levels.values()) {
+                AnalysisJob head = level.peek();
+                long effective = head.effectivePriority(now, agingStepNanos, maxAgingLevels);
+                if (next == null || effective > nextEffective
+                        || (effective == nextEffective && head.sequence() < next.sequence())) {
+                    next = head;
+                    nextEffective = effective;
+                }
+            }
+
+            ArrayDeque<AnalysisJob> level = levels.get(next.priority());
+            level.poll();
+            if (level.isEmpty()) {
+                levels.remove(next.priority());
+            }
+            size--;
+            return next;
+        }
+    }
+
+    private record AnalysisJob(Long tenantId, Long meetingId, String meetingType, int priority, long enqueuedAt,
+                               long sequence, Runnable task, CompletableFuture<Void> future) {
+
+        private long effectivePriority(long now, long agingStepNanos, int maxAgingLevels) {
+            // nanoTime values are only comparable by their difference
+            long waitedSteps = agingStepNanos > 0 ? (now - enqueuedAt) / agingStepNanos : 0;
+            return priority + Math.min(Math.max(waitedSteps, 0), maxAgingLevels);
+        }
+    }
+}
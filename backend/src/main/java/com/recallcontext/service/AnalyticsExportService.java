@@ -0,0 +1,263 @@
+package com.recallcontext.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.OperationNotPermittedException;
+import com.recallcontext.model.dto.AnalyticsExportResponse;
+import com.recallcontext.repository.AnalyticsExportRepository;
+import com.recallcontext.repository.AnalyticsExportRepository.SourceTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Incrementally exports meetings, summaries, participants and action items for offline analytics.
+ * <p>
+ * Each run exports rows changed since the table's watermark into gzip-compressed CSV files laid out
+ * as {@code <table>/tenant_id=N/meeting_date=YYYY-MM-DD/part-<run>.csv.gz}, which DuckDB, Spark and
+ * pandas read as a partitioned dataset. Each tenant's data sits under its own directory, so it can be
+ * handed out or access-controlled separately; the export itself covers all tenants and can only be
+ * triggered on demand by a request naming the configured admin tenant. Rows changed again later appear in a newer part file, so readers keep
+ * the latest version of each id. Rows deleted since, including those a reanalysis replaced, are listed
+ * by table and id under {@code deletions/}; ids are never reused, so readers drop every listed id.
+ * Files are staged and only published, and the watermark advanced, once a whole table has been written.
+ */
+@Service
+@Slf4j
+public class AnalyticsExportService {
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String STAGING_SUFFIX = ".inprogress";
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AnalyticsExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean scheduleEnabled;
+    private final Path directory;
+    private final Duration commitLag;
+    private final String adminTenantKey;
+
+    public AnalyticsExportService(
+            AnalyticsExportRepository exportRepository,
+            ObjectMapper objectMapper,
+            @Value("${analytics.export.enabled}") boolean scheduleEnabled,
+            @Value("${analytics.export.directory}") String directory,
+            @Value("${analytics.export.commit-lag}") Duration commitLag,
+            @Value("${analytics.export.admin-tenant}") String adminTenantKey
+    ) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.scheduleEnabled = scheduleEnabled;
+        this.directory = Path.of(directory).toAbsolutePath();
+        this.commitLag = commitLag;
+        this.adminTenantKey = adminTenantKey;
+    }
+
+    /**
+     * Scheduled incremental export, when enabled
+     */
+    @Scheduled(
+            fixedDelayString = "${analytics.export.interval}",
+            initialDelayString = "${analytics.export.interval}"
+    )
+    public void runScheduledExport() {
+        if (scheduleEnabled) {
+            exportChanges();
+        }
+    }
+
+    /**
+     * On-demand export; it covers every tenant, so only a request naming the admin tenant may trigger it
+     */
+    public AnalyticsExportResponse exportChangesOnDemand() {
+        if (!TenantContext.isNamedTenant(adminTenantKey)) {
+            throw new OperationNotPermittedException("Only the " + adminTenantKey + " tenant can run the analytics export");
+        }
+        return exportChanges();
+    }
+
+    /**
+     * Export everything changed since the last run. Runs are serialised.
+     */
+    public synchronized AnalyticsExportResponse exportChanges() {
+        // Same clock the entities stamp updated_at with; rows stamped just before now may belong to transactions that have not committed yet
+        LocalDateTime until = LocalDateTime.now().minus(commitLag);
+        String runId = until.format(RUN_ID_FORMAT);
+        log.info("Starting analytics export up to {}", until);
+
+        List<AnalyticsExportResponse.TableResult> results = new ArrayList<>();
+        for (SourceTable table : SourceTable.values()) {
+            results.add(exportTable(table, until, runId));
+        }
+
+        return AnalyticsExportResponse.builder()
+                .directory(directory.toString())
+                .exportedUntil(until)
+                .tables(results)
+                .build();
+    }
+
+    private AnalyticsExportResponse.TableResult exportTable(SourceTable table, LocalDateTime until, String runId) {
+        LocalDateTime since = exportRepository.findWatermark(table).orElse(INITIAL_WATERMARK);
+        if (!since.isBefore(until)) {
+            return tableResult(table, since, 0, 0);
+        }
+
+        PartitionWriter writer = new PartitionWriter(directory.resolve(table.getTableName()), runId);
+        boolean published = false;
+        try {
+            exportRepository.streamChanges(table, since, until, writer);
+            writer.closeCurrent();
+            writer.publish();
+            published = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Analytics export of " + table.getTableName() + " failed", e);
+        } finally {
+            if (!published) {
+                // Watermark stays put, so the next run exports the same changes again
+                writer.discard();
+            }
+        }
+
+        exportRepository.saveWatermark(table, until, writer.rows);
+        if (table == SourceTable.DELETIONS) {
+            exportRepository.purgeDeletions(until);
+        }
+        log.info("Exported {} changed {} rows into {} partitions", writer.rows, table.getTableName(), writer.staged.size());
+        return tableResult(table, since, writer.rows, writer.staged.size());
+    }
+
+    private AnalyticsExportResponse.TableResult tableResult(SourceTable table, LocalDateTime since, long rows, int partitions) {
+        return AnalyticsExportResponse.TableResult.builder()
+                .table(table.getTableName())
+                .since(since)
+                .rows(rows)
+                .partitions(partitions)
+                .build();
+    }
+
+    /**
+     * Writes rows ordered by tenant and partition date, one staged gzip CSV file per partition
+     */
+    private class PartitionWriter implements RowCallbackHandler {
+        private final Path tableDirectory;
+        private final String runId;
+        private final List<Path> staged = new ArrayList<>();
+        private String[] columns;
+        private Path currentPartition;
+        private Writer current;
+        private long rows;
+
+        PartitionWriter(Path tableDirectory, String runId) {
+            this.tableDirectory = tableDirectory;
+            this.runId = runId;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (columns == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                // Columns 1 and 2 are the tenant and partition date, which are carried by the directory names
+                columns = new String[metaData.getColumnCount() - 2];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = metaData.getColumnLabel(i + 3);
+                }
+            }
+
+            try {
+                Path partition = Path.of("tenant_id=" + rs.getLong(1), "meeting_date=" + rs.getObject(2));
+                if (current == null || !partition.equals(currentPartition)) {
+                    closeCurrent();
+                    open(partition);
+                }
+
+                String[] cells = new String[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    cells[i] = toCell(rs.getObject(i + 3));
+                }
+                CsvLines.write(current, cells);
+                rows++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void open(Path partition) throws IOException {
+            Path partitionDirectory = tableDirectory.resolve(partition);
+            Files.createDirectories(partitionDirectory);
+            Path file = partitionDirectory.resolve("part-" + runId + ".csv.gz" + STAGING_SUFFIX);
+
+            current = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024), StandardCharsets.UTF_8));
+            currentPartition = partition;
+            staged.add(file);
+            CsvLines.write(current, columns);
+        }
+
+        private String toCell(Object value) throws SQLException, IOException {
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Array array) {
+                return objectMapper.writeValueAsString(array.getArray());
+            }
+            if (value instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime().toString();
+            }
+            return value.toString();
+        }
+
+        void closeCurrent() throws IOException {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        }
+
+        void publish() throws IOException {
+            for (Path file : staged) {
+                String name = file.getFileName().toString();
+                Path target = file.resolveSibling(name.substring(0, name.length() - STAGING_SUFFIX.length()));
+                Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+
+        void discard() {
+            try {
+                closeCurrent();
+            } catch (IOException e) {
+                log.warn("Failed to close partial analytics export file", e);
+            }
+            for (Path file : staged) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Failed to delete partial analytics export file {}", file, e);
+                }
+            }
+        }
+    }
+}
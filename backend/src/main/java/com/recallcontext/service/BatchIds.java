@@ -0,0 +1,51 @@
+package com.recallcontext.service;
+
+import com.recallcontext.exception.InvalidQueryParameterException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validation shared by the batch endpoints
+ */
+final class BatchIds {
+
+    private BatchIds() {
+    }
+
+    /**
+     * Distinct ids in the order they were first requested, rejecting empty or oversized batches
+     */
+    static List<Long> distinctInOrder(List<Long> ids, int maxIds) {
+        LinkedHashSet<Long> distinct = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+
+        if (distinct.isEmpty()) {
+            throw new InvalidQueryParameterException("At least one id is required");
+        }
+        if (distinct.size() > maxIds) {
+            throw new InvalidQueryParameterException(
+                    "Too many ids: " + distinct.size() + " (at most " + maxIds + " per request)");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * The ids of a batch write, each of which must appear once, rejecting empty or oversized batches
+     */
+    static List<Long> uniqueInOrder(List<Long> ids, int maxIds) {
+        if (ids != null && ids.size() > maxIds) {
+            throw new InvalidQueryParameterException(
+                    "Too many ids: " + ids.size() + " (at most " + maxIds + " per request)");
+        }
+        List<Long> distinct = distinctInOrder(ids, maxIds);
+        if (distinct.size() != ids.size()) {
+            throw new InvalidQueryParameterException("Each id may appear only once per request");
+        }
+        return distinct;
+    }
+}
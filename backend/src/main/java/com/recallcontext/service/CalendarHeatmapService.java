@@ -0,0 +1,118 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.InvalidQueryParameterException;
+import com.recallcontext.model.dto.CalendarHeatmapResponse;
+import com.recallcontext.repository.CalendarBucketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Calendar heatmap served from the daily_meeting_buckets materialized view.
+ * <p>
+ * The view is refreshed concurrently shortly after meetings or actions change, and at least every
+ * {@code calendar.max-staleness} so changes made elsewhere (deletes, other instances) show up too.
+ */
+@Service
+@Slf4j
+public class CalendarHeatmapService {
+
+    static final int MAX_RANGE_DAYS = 366;
+
+    private final CalendarBucketRepository calendarBucketRepository;
+    private final Duration maxStaleness;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Instant lastRefresh = Instant.now();
+
+    public CalendarHeatmapService(
+            CalendarBucketRepository calendarBucketRepository,
+            @Value("${calendar.max-staleness}") Duration maxStaleness
+    ) {
+        this.calendarBucketRepository = calendarBucketRepository;
+        this.maxStaleness = maxStaleness;
+    }
+
+    /**
+     * Per-day totals for the current tenant over [from, to], defaulting to the year ending today
+     */
+    public CalendarHeatmapResponse getHeatmap(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1).plusDays(1);
+        if (start.isAfter(end)) {
+            throw new InvalidQueryParameterException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new InvalidQueryParameterException("Range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        Map<LocalDate, CalendarHeatmapResponse.Day> days = new LinkedHashMap<>();
+        for (CalendarBucketRepository.DayBucket bucket
+                : calendarBucketRepository.findBetween(TenantContext.getTenantId(), start, end)) {
+            CalendarHeatmapResponse.Day day = days.computeIfAbsent(bucket.day(), date -> CalendarHeatmapResponse.Day.builder()
+                    .date(date)
+                    .meetingsByType(new LinkedHashMap<>())
+                    .build());
+            if (bucket.meetings() > 0) {
+                day.getMeetingsByType().put(bucket.meetingType(), bucket.meetings());
+            }
+            day.setMeetings(day.getMeetings() + bucket.meetings());
+            day.setTranscriptBytes(day.getTranscriptBytes() + bucket.transcriptBytes());
+            day.setActionsCreated(day.getActionsCreated() + bucket.actionsCreated());
+            day.setActionsCompleted(day.getActionsCompleted() + bucket.actionsCompleted());
+            day.setOpenActionsDue(day.getOpenActionsDue() + bucket.openActionsDue());
+        }
+
+        return CalendarHeatmapResponse.builder()
+                .from(start)
+                .to(end)
+                .days(new ArrayList<>(days.values()))
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMeetingStatusChanged(MeetingStatusChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActionItemsChanged(ActionItemsChangedEvent event) {
+        dirty.set(true);
+    }
+
+    /**
+     * Refresh the view if something changed since the last refresh or it is getting stale
+     */
+    @Scheduled(
+            fixedDelayString = "${calendar.refresh-interval}",
+            initialDelayString = "${calendar.refresh-interval}"
+    )
+    public void refreshIfStale() {
+        boolean stale = Instant.now().isAfter(lastRefresh.plus(maxStaleness));
+        if (!dirty.getAndSet(false) && !stale) {
+            return;
+        }
+
+        try {
+            long started = System.nanoTime();
+            calendarBucketRepository.refresh();
+            lastRefresh = Instant.now();
+            log.debug("Refreshed daily meeting buckets in {} ms", (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            log.error("Failed to refresh daily meeting buckets", e);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.recallcontext.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recallcontext.config.ChangeFeedProperties;
+import com.recallcontext.model.dto.ChangeEventResponse;
+import com.recallcontext.repository.ChangeEventRepository;
+import com.recallcontext.repository.ChangeEventRepository.ChangeEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Server-sent change feed of meeting status transitions and action item changes.
+ * <p>
+ * Changes are written to the {@code change_events} outbox just before their transaction commits,
+ * together with a {@code NOTIFY}. Every instance keeps one dedicated connection listening on that
+ * channel and, when woken (or every poll interval), streams the new rows to its subscribers in id
+ * order. Event ids are outbox ids, so a client reconnecting with {@code Last-Event-ID} is first sent
+ * what it missed, from whichever instance it reaches.
+ * <p>
+ * Ids are assigned at insert but become visible at commit, so a later id can appear before an
+ * earlier one. The dispatcher waits up to {@code changes.gap-grace} for a missing id before
+ * assuming its transaction rolled back.
+ */
+@Service
+@Slf4j
+public class ChangeFeedService {
+
+    private final ChangeEventRepository changeEventRepository;
+    private final ChangeFeedProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private long cursor;
+    private Instant gapSince;
+    private Instant lastHeartbeat = Instant.now();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ChangeFeedService(ChangeEventRepository changeEventRepository, ChangeFeedProperties properties,
+                             DataSourceProperties dataSourceProperties, ObjectMapper objectMapper,
+                             EntityManager entityManager) {
+        this.changeEventRepository = changeEventRepository;
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Write meeting changes to the outbox as part of the changing transaction
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMeetingStatusChanged(MeetingStatusChangedEvent event) {
+        if (event.meetingIds().isEmpty()) {
+            return;
+        }
+        flushPendingChanges();
+        changeEventRepository.recordMeetings(event.meetingIds());
+        changeEventRepository.notifyListeners();
+    }
+
+    /**
+     * Write action item changes to the outbox as part of the changing transaction
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onActionItemsChanged(ActionItemsChangedEvent event) {
+        if (event.actionIds().isEmpty()) {
+            return;
+        }
+        flushPendingChanges();
+        changeEventRepository.recordActions(event.actionIds(), event.created() ? "CREATED" : "UPDATED");
+        changeEventRepository.notifyListeners();
+    }
+
+    /**
+     * Record an event that has no entity change behind it, such as a due-date reminder. Every
+     * instance may raise the same event; only the first with a given dedupe key is recorded, and
+     * true is returned to that instance alone.
+     */
+    public boolean publish(Long tenantId, String entityType, Long entityId, String changeType, Object payload,
+                           String dedupeKey) {
+        try {
+            if (changeEventRepository.record(tenantId, entityType, entityId, changeType,
+                    objectMapper.writeValueAsString(payload), dedupeKey)) {
+                changeEventRepository.notifyListeners();
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Change event payload is not serializable", e);
+        }
+    }
+
+    /**
+     * The outbox rows are built from the database rows, so pending entity changes must be written first
+     */
+    private void flushPendingChanges() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        cursor = changeEventRepository.findMaxId();
+        running = true;
+
+        listenerThread = new Thread(this::listenLoop, "change-feed-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Change feed listening from event {}", cursor);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+    }
+
+    /**
+     * Open a stream of the tenant's changes, first replaying anything after {@code lastEventId}
+     */
+    public SseEmitter subscribe(Long tenantId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(tenantId, emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        // Holding the dispatcher lock means nothing is broadcast between the replay and registration
+        synchronized (this) {
+            if (lastEventId != null && lastEventId < cursor) {
+                List<ChangeEvent> missed = changeEventRepository.findForTenant(
+                        tenantId, lastEventId, cursor, properties.getReplayLimit() + 1);
+                if (missed.size() > properties.getReplayLimit()) {
+                    // Too far behind (or purged): the client should reload and resume from here
+                    send(emitter, SseEmitter.event().id(String.valueOf(cursor)).name("reset").data("{}"));
+                } else {
+                    for (ChangeEvent event : missed) {
+                        try {
+                            if (!send(emitter, toSseEvent(toResponse(event)))) {
+                                return emitter;
+                            }
+                        } catch (IOException e) {
+                            log.error("Skipping change event {} with unreadable payload", event.id(), e);
+                        }
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+
+        log.debug("Change feed subscriber added for tenant {} ({} open)", tenantId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Purge events older than the retention period
+     */
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT10M")
+    public void purgeExpired() {
+        int deleted = changeEventRepository.deleteOlderThan(LocalDateTime.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("Purged {} change events older than {}", deleted, properties.getRetention());
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + ChangeEventRepository.CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    // Returns on the first notification or after the poll interval, which also covers gaps
+                    pgConnection.getNotifications((int) properties.getPollInterval().toMillis());
+                    dispatch();
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Change feed listener failed, reconnecting: {}", e.getMessage());
+                try {
+                    Thread.sleep(properties.getPollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Broadcast new events in id order, holding back at a missing id until it commits or the grace passes
+     */
+    private synchronized void dispatch() {
+        Instant now = Instant.now();
+        List<ChangeEvent> events = changeEventRepository.findAfter(cursor, properties.getReplayLimit());
+
+        for (ChangeEvent event : events) {
+            if (event.id() != cursor + 1) {
+                if (gapSince == null) {
+                    gapSince = now;
+                }
+                if (Duration.between(gapSince, now).compareTo(properties.getGapGrace()) < 0) {
+                    break;
+                }
+            }
+            gapSince = null;
+            cursor = event.id();
+            broadcast(event);
+        }
+
+        if (Duration.between(lastHeartbeat, now).compareTo(properties.getHeartbeatInterval()) >= 0) {
+            lastHeartbeat = now;
+            for (Subscriber subscriber : subscribers) {
+                send(subscriber.emitter(), SseEmitter.event().comment("keepalive"));
+            }
+        }
+    }
+
+    private void broadcast(ChangeEvent event) {
+        List<Subscriber> recipients = subscribers.stream()
+                .filter(subscriber -> subscriber.tenantId() == event.tenantId())
+                .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        ChangeEventResponse response;
+        try {
+            response = toResponse(event);
+        } catch (IOException e) {
+            log.error("Skipping change event {} with unreadable payload", event.id(), e);
+            return;
+        }
+        // Event builders are single use, so each subscriber gets its own
+        recipients.forEach(subscriber -> send(subscriber.emitter(), toSseEvent(response)));
+    }
+
+    private ChangeEventResponse toResponse(ChangeEvent event) throws IOException {
+        return ChangeEventResponse.builder()
+                .id(event.id())
+                .entityType(event.entityType())
+                .entityId(event.entityId())
+                .changeType(event.changeType())
+                .data(objectMapper.readTree(event.payload()))
+                .createdAt(event.createdAt())
+                .build();
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(ChangeEventResponse response) {
+        return SseEmitter.event()
+                .id(String.valueOf(response.getId()))
+                .name(response.getEntityType().toLowerCase(Locale.ROOT))
+                .data(response, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Send an event, dropping the subscriber if its connection has gone
+     */
+    private boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.removeIf(subscriber -> subscriber.emitter() == emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private record Subscriber(Long tenantId, SseEmitter emitter) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.recallcontext.service;
+
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@Service
+public class ContentHashService {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    /**
+     * SHA-256 of the UTF-8 encoded text, as lowercase hex
+     */
+    public String sha256Hex(String content) {
+        return sha256Hex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SHA-256 of the given bytes, as lowercase hex
+     */
+    public String sha256Hex(byte[] bytes) {
+        MessageDigest digest = newDigest();
+        return HexFormat.of().formatHex(digest.digest(bytes));
+    }
+
+    /**
+     * Fresh SHA-256 digest for incremental hashing
+     */
+    public MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
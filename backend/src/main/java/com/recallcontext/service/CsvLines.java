@@ -0,0 +1,33 @@
+package com.recallcontext.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 CSV line formatting shared by the exporters
+ */
+final class CsvLines {
+
+    private CsvLines() {
+    }
+
+    static void write(Writer writer, String[] cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(cells[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(String cell) {
+        if (cell == null) {
+            return "";
+        }
+        if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0 && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+            return cell;
+        }
+        return '"' + cell.replace("\"", "\"\"") + '"';
+    }
+}
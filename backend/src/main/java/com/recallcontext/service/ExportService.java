@@ -0,0 +1,254 @@
+package com.recallcontext.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.ExportCapacityExceededException;
+import com.recallcontext.exception.InvalidExportRequestException;
+import com.recallcontext.repository.ExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+
+/**
+ * Streams meetings and action items as NDJSON or CSV directly from a database cursor.
+ * Rows are written as they are read, and the number of concurrent exports is capped
+ * so long exports cannot take over the connection pool.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidExportRequestException("Unsupported export format: " + value + " (expected ndjson or csv)");
+            }
+        }
+    }
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportSlots;
+
+    public ExportService(
+            ExportRepository exportRepository,
+            ObjectMapper objectMapper,
+            @Value("${exports.max-concurrent}") int maxConcurrent
+    ) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.exportSlots = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * Where an export is written; opened only once an export slot has been acquired, so a rejected
+     * export has not yet committed to a status or content type
+     */
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open() throws IOException;
+    }
+
+    /**
+     * Export the current tenant's meetings with summaries and participant names
+     */
+    public void exportMeetings(Format format, ExportTarget target) throws IOException {
+        export("meetings", format, target, exportRepository::streamMeetings);
+    }
+
+    /**
+     * Export the current tenant's action items
+     */
+    public void exportActionItems(Format format, ExportTarget target) throws IOException {
+        export("action items", format, target, exportRepository::streamActionItems);
+    }
+
+    private void export(String what, Format format, ExportTarget target,
+                        BiFunction<Long, ResultSetExtractor<Long>, Long> query) throws IOException {
+        if (!exportSlots.tryAcquire()) {
+            throw new ExportCapacityExceededException("Too many exports in progress, please retry shortly");
+        }
+
+        Long tenantId = TenantContext.getTenantId();
+        long start = System.currentTimeMillis();
+        try {
+            OutputStream out = target.open();
+            try (RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out)) {
+                long rows = query.apply(tenantId, new RowExtractor(writer));
+                log.info("Exported {} {} as {} for tenant {} in {} ms",
+                        rows, what, format, TenantContext.getTenantKey(), System.currentTimeMillis() - start);
+            }
+        } catch (UncheckedIOException e) {
+            // Usually the client went away; the query is abandoned with the cursor
+            throw e.getCause();
+        } finally {
+            exportSlots.release();
+        }
+    }
+
+    /**
+     * Writes the header from the result set's columns, even when there are no rows, then converts
+     * JDBC values and forwards each row to the writer, returning the row count
+     */
+    private static class RowExtractor implements ResultSetExtractor<Long> {
+        private final RowWriter writer;
+
+        RowExtractor(RowWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public Long extractData(ResultSet rs) throws SQLException {
+            ResultSetMetaData metaData = rs.getMetaData();
+            String[] columns = new String[metaData.getColumnCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = metaData.getColumnLabel(i + 1);
+            }
+            writer.header(columns);
+
+            long rows = 0;
+            while (rs.next()) {
+                Object[] values = new Object[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    values[i] = toExportValue(rs.getObject(i + 1));
+                }
+                writer.row(columns, values);
+                rows++;
+            }
+            return rows;
+        }
+
+        private static Object toExportValue(Object value) throws SQLException {
+            if (value instanceof Timestamp timestamp) {
+                return timestamp.toLocalDateTime().toString();
+            }
+            if (value instanceof Date date) {
+                return date.toLocalDate().toString();
+            }
+            if (value instanceof Array array) {
+                return array.getArray();
+            }
+            return value;
+        }
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void header(String[] columns);
+
+        void row(String[] columns, Object[] values);
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * One JSON object per line
+     */
+    private class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void header(String[] columns) {
+        }
+
+        @Override
+        public void row(String[] columns, Object[] values) {
+            try {
+                generator.writeStartObject();
+                for (int i = 0; i < columns.length; i++) {
+                    generator.writeFieldName(columns[i]);
+                    generator.writeObject(values[i]);
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * CSV with a header line; array columns are written as JSON arrays
+     */
+    private class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public void header(String[] columns) {
+            writeLine(columns);
+        }
+
+        @Override
+        public void row(String[] columns, Object[] values) {
+            String[] cells = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                cells[i] = toCell(values[i]);
+            }
+            writeLine(cells);
+        }
+
+        private String toCell(Object value) {
+            if (value == null) {
+                return "";
+            }
+            if (value instanceof Object[] array) {
+                try {
+                    return objectMapper.writeValueAsString(array);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return value.toString();
+        }
+
+        private void writeLine(String[] cells) {
+            try {
+                CsvLines.write(writer, cells);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
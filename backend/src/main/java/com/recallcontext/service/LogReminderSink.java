@@ -0,0 +1,25 @@
+package com.recallcontext.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes reminders to the application log
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "reminders", name = "log-enabled", havingValue = "true", matchIfMissing = true)
+public class LogReminderSink implements ReminderSink {
+
+    @Override
+    public void send(Reminder reminder) {
+        log.info("Reminder: action {} for {} is due {} (tenant {}, meeting {}): {}",
+                reminder.actionId(),
+                reminder.assignee() != null ? reminder.assignee() : "unassigned",
+                reminder.dueDate(),
+                reminder.tenantId(),
+                reminder.meetingId(),
+                reminder.description());
+    }
+}
@@ -0,0 +1,72 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.model.dto.MeetingCardReconcileResponse;
+import com.recallcontext.repository.MeetingCardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects and corrects drift between the meetings' card fields and their child rows, e.g. from
+ * direct database edits or writes that bypassed the services. Meetings are checked in id ranges so
+ * each transaction locks at most one range of meetings.
+ */
+@Service
+@Slf4j
+public class MeetingCardReconciliationService {
+
+    private final MeetingCardRepository meetingCardRepository;
+    private final int batchSize;
+
+    public MeetingCardReconciliationService(
+            MeetingCardRepository meetingCardRepository,
+            @Value("${meetings.cards.reconcile-batch-size}") int batchSize
+    ) {
+        this.meetingCardRepository = meetingCardRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${meetings.cards.reconcile-interval}",
+            initialDelayString = "${meetings.cards.reconcile-interval}"
+    )
+    public void runScheduledReconciliation() {
+        reconcile(null);
+    }
+
+    /**
+     * Check the card fields of the current tenant's meetings and fix those that drifted
+     */
+    public MeetingCardReconcileResponse reconcileCurrentTenant() {
+        return reconcile(TenantContext.getTenantId());
+    }
+
+    /**
+     * Check the card fields of a tenant's meetings, or of all meetings when tenantId is null, and fix
+     * those that drifted. Runs are serialised.
+     */
+    private synchronized MeetingCardReconcileResponse reconcile(Long tenantId) {
+        long maxId = meetingCardRepository.findMaxMeetingId(tenantId);
+        List<Long> corrected = new ArrayList<>();
+        for (long afterId = 0; afterId < maxId; afterId += batchSize) {
+            corrected.addAll(meetingCardRepository.reconcile(tenantId, afterId, Math.min(afterId + batchSize, maxId)));
+        }
+
+        if (corrected.isEmpty()) {
+            log.debug("Meeting cards consistent up to meeting {} (tenant {})", maxId, tenantId);
+        } else {
+            log.warn("Corrected drifted card fields of {} meetings (tenant {}): {}", corrected.size(), tenantId, corrected);
+        }
+
+        return MeetingCardReconcileResponse.builder()
+                .checkedUpToId(maxId)
+                .corrected(corrected.size())
+                .correctedMeetingIds(corrected)
+                .build();
+    }
+}
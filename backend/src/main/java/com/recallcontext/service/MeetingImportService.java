@@ -0,0 +1,254 @@
+package com.recallcontext.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.InvalidFilenameException;
+import com.recallcontext.model.dto.ImportResultLine;
+import com.recallcontext.model.entity.Meeting;
+import com.recallcontext.model.entity.MeetingSeries;
+import com.recallcontext.repository.MeetingBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imports archives of transcripts: validates each entry, inserts meetings in JDBC batches,
+ * queues their analyses and streams a per-file NDJSON report
+ */
+@Service
+@Slf4j
+public class MeetingImportService {
+
+    private final TranscriptArchiveReader archiveReader;
+    private final TranscriptParserService parserService;
+    private final ContentHashService contentHashService;
+    private final UploadIdempotencyService idempotencyService;
+    private final TranscriptBlobStore transcriptBlobStore;
+    private final MeetingBatchRepository meetingBatchRepository;
+    private final MeetingService meetingService;
+    private final UploadAdmissionService admissionService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long maxEntryBytes;
+
+    public MeetingImportService(
+            TranscriptArchiveReader archiveReader,
+            TranscriptParserService parserService,
+            ContentHashService contentHashService,
+            UploadIdempotencyService idempotencyService,
+            TranscriptBlobStore transcriptBlobStore,
+            MeetingBatchRepository meetingBatchRepository,
+            MeetingService meetingService,
+            UploadAdmissionService admissionService,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${uploads.import.batch-size}") int batchSize,
+            @Value("${uploads.spool.max-bytes}") long maxEntryBytes
+    ) {
+        this.archiveReader = archiveReader;
+        this.parserService = parserService;
+        this.contentHashService = contentHashService;
+        this.idempotencyService = idempotencyService;
+        this.transcriptBlobStore = transcriptBlobStore;
+        this.meetingBatchRepository = meetingBatchRepository;
+        this.meetingService = meetingService;
+        this.admissionService = admissionService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        // A batch never needs more import slots than exist
+        this.batchSize = Math.min(Math.max(1, batchSize), admissionService.getMaxQueuedImports());
+        this.maxEntryBytes = maxEntryBytes;
+    }
+
+    /**
+     * Reject an import up front while imported meetings already fill the import budget
+     */
+    public void admit() {
+        admissionService.admitImport();
+    }
+
+    /**
+     * Import every transcript in the archive, writing one result line per file as it is handled.
+     * Reading pauses whenever queueing the next batch would exceed the import budget.
+     */
+    public void importArchive(InputStream archive, OutputStream report) throws IOException {
+        ImportRun run = new ImportRun(report);
+        log.info("Starting bulk import for tenant {}", TenantContext.getTenantKey());
+
+        archiveReader.read(archive, run::handleEntry);
+        run.flushBatch();
+
+        run.write(ImportResultLine.builder()
+                .status("SUMMARY")
+                .total(run.total)
+                .queued(run.queued)
+                .duplicates(run.duplicates)
+                .rejected(run.rejected)
+                .build());
+
+        log.info("Bulk import finished: {} files, {} queued, {} duplicates, {} rejected",
+                run.total, run.queued, run.duplicates, run.rejected);
+    }
+
+    /**
+     * State of a single import request
+     */
+    private class ImportRun {
+        private final OutputStream report;
+        private final Long tenantId = TenantContext.getTenantId();
+        private final String userId = TenantContext.getUserId();
+        private final Map<String, MeetingSeries> seriesCache = new HashMap<>();
+        private final Set<String> seenInArchive = new HashSet<>();
+        private final List<Meeting> batch = new ArrayList<>();
+
+        private int total;
+        private int queued;
+        private int duplicates;
+        private int rejected;
+
+        ImportRun(OutputStream report) {
+            this.report = report;
+        }
+
+        void handleEntry(String filename, InputStream content) throws IOException {
+            total++;
+
+            TranscriptParserService.ParsedMetadata metadata;
+            try {
+                metadata = parserService.parseFilename(filename);
+            } catch (InvalidFilenameException e) {
+                reject(filename, "INVALID", e.getMessage());
+                return;
+            }
+
+            byte[] bytes = content.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxEntryBytes + 1));
+            if (bytes.length > maxEntryBytes) {
+                reject(filename, "INVALID", "Transcript exceeds the maximum size of " + maxEntryBytes + " bytes");
+                return;
+            }
+            if (bytes.length == 0) {
+                reject(filename, "INVALID", "Content is required");
+                return;
+            }
+
+            String text;
+            try {
+                text = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+            } catch (CharacterCodingException e) {
+                reject(filename, "INVALID", "Transcript is not valid UTF-8 text");
+                return;
+            }
+
+            String contentHash = contentHashService.sha256Hex(bytes);
+            if (!seenInArchive.add(filename + "\n" + contentHash)) {
+                duplicate(filename, null);
+                return;
+            }
+            var existing = idempotencyService.findRecentDuplicate(tenantId, filename, contentHash);
+            if (existing.isPresent()) {
+                duplicate(filename, existing.get().getId());
+                return;
+            }
+
+            transcriptBlobStore.putText(contentHash, text, metadata.getMeetingType());
+
+            String seriesKey = metadata.getSeriesName() + "\n" + metadata.getMeetingType();
+            MeetingSeries series = seriesCache.computeIfAbsent(seriesKey, key ->
+                    meetingService.findOrCreateSeries(tenantId, metadata.getSeriesName(), metadata.getMeetingType()));
+
+            batch.add(Meeting.builder()
+                    .tenantId(tenantId)
+                    .uploadedBy(userId)
+                    .series(series)
+                    .meetingDate(metadata.getMeetingDate())
+                    .meetingType(metadata.getMeetingType())
+                    .seriesName(metadata.getSeriesName())
+                    .originalFilename(filename)
+                    .contentHash(contentHash)
+                    .transcriptSize((long) bytes.length)
+                    .processingStatus("PROCESSING")
+                    .build());
+
+            if (batch.size() >= batchSize) {
+                flushBatch();
+            }
+        }
+
+        /**
+         * Insert the pending batch and queue its analyses; transcripts are not kept in the queue.
+         * Import slots are taken before the meetings are stored as PROCESSING, and each is freed when
+         * its analysis ends.
+         */
+        void flushBatch() throws IOException {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            admissionService.acquireImportSlots(batch.size());
+            try {
+                meetingBatchRepository.insertAll(batch);
+            } catch (RuntimeException e) {
+                admissionService.releaseImportSlots(batch.size());
+                log.error("Failed to insert import batch of {} meetings", batch.size(), e);
+                for (Meeting meeting : batch) {
+                    reject(meeting.getOriginalFilename(), "FAILED", "Failed to store meeting: " + e.getMessage());
+                }
+                batch.clear();
+                return;
+            }
+
+            eventPublisher.publishEvent(new MeetingStatusChangedEvent(batch.stream().map(Meeting::getId).toList()));
+
+            for (Meeting meeting : batch) {
+                meetingService.scheduleStoredMeeting(meeting.getId(), meeting.getMeetingType())
+                        .whenComplete((ignored, ex) -> admissionService.releaseImportSlots(1));
+                queued++;
+                write(ImportResultLine.builder()
+                        .filename(meeting.getOriginalFilename())
+                        .status("QUEUED")
+                        .meetingId(meeting.getId())
+                        .build());
+            }
+            batch.clear();
+        }
+
+        private void reject(String filename, String status, String error) throws IOException {
+            rejected++;
+            write(ImportResultLine.builder()
+                    .filename(filename)
+                    .status(status)
+                    .error(error)
+                    .build());
+        }
+
+        private void duplicate(String filename, Long meetingId) throws IOException {
+            duplicates++;
+            write(ImportResultLine.builder()
+                    .filename(filename)
+                    .status("DUPLICATE")
+                    .meetingId(meetingId)
+                    .build());
+        }
+
+        void write(ImportResultLine line) throws IOException {
+            report.write(objectMapper.writeValueAsBytes(line));
+            report.write('\n');
+            report.flush();
+        }
+    }
+}
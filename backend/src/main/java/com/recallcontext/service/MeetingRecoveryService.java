@@ -0,0 +1,212 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.AnalysisSupersededException;
+import com.recallcontext.model.dto.BulkReprocessResponse;
+import com.recallcontext.model.dto.MeetingResponse;
+import com.recallcontext.model.entity.Meeting;
+import com.recallcontext.model.entity.ProcessingLog;
+import com.recallcontext.repository.MeetingRepository;
+import com.recallcontext.repository.ProcessingLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Service
+@Slf4j
+public class MeetingRecoveryService {
+
+    private static final String STALE_ERROR = "Processing was interrupted before completion";
+    private static final int HEARTBEAT_BATCH_SIZE = 1000;
+
+    private final MeetingRepository meetingRepository;
+    private final ProcessingLogRepository processingLogRepository;
+    private final MeetingService meetingService;
+    private final AnalysisScheduler analysisScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration staleAfter;
+    private final int reprocessBatchSize;
+
+    public MeetingRecoveryService(
+            MeetingRepository meetingRepository,
+            ProcessingLogRepository processingLogRepository,
+            MeetingService meetingService,
+            AnalysisScheduler analysisScheduler,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${processing.recovery.stale-after}") Duration staleAfter,
+            @Value("${processing.recovery.reprocess-batch-size}") int reprocessBatchSize
+    ) {
+        this.meetingRepository = meetingRepository;
+        this.processingLogRepository = processingLogRepository;
+        this.meetingService = meetingService;
+        this.analysisScheduler = analysisScheduler;
+        this.eventPublisher = eventPublisher;
+        this.staleAfter = staleAfter;
+        this.reprocessBatchSize = Math.max(1, reprocessBatchSize);
+    }
+
+    /**
+     * Recover meetings left in PROCESSING by a previous run
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        log.info("Running startup sweep for stale PROCESSING meetings");
+        sweepStaleProcessing();
+    }
+
+    /**
+     * Renew the heartbeat of every meeting in this instance's analysis queue, so that no instance's
+     * sweep mistakes a meeting still waiting here for an abandoned one
+     */
+    @Scheduled(
+            fixedDelayString = "${processing.recovery.heartbeat-interval}",
+            initialDelayString = "${processing.recovery.heartbeat-interval}"
+    )
+    public void renewHeartbeats() {
+        List<Long> meetingIds = analysisScheduler.scheduledMeetingIds();
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < meetingIds.size(); from += HEARTBEAT_BATCH_SIZE) {
+            List<Long> batch = meetingIds.subList(from, Math.min(from + HEARTBEAT_BATCH_SIZE, meetingIds.size()));
+            meetingRepository.renewProcessingHeartbeat(batch, now);
+        }
+        log.debug("Renewed processing heartbeat of {} meetings", meetingIds.size());
+    }
+
+    /**
+     * Mark meetings in PROCESSING that no instance has updated or heartbeated for longer than the
+     * configured age as FAILED
+     */
+    @Scheduled(
+            fixedDelayString = "${processing.recovery.sweep-interval}",
+            initialDelayString = "${processing.recovery.sweep-interval}"
+    )
+    public void sweepStaleProcessing() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(staleAfter);
+
+        List<Meeting> stale = meetingRepository.findStaleProcessing(cutoff);
+        int recovered = 0;
+
+        for (Meeting meeting : stale) {
+            // Conditional update so a meeting that completed or was heartbeated meanwhile is left untouched
+            int updated = meetingRepository.failIfStale(meeting.getId(), cutoff, STALE_ERROR, now);
+            if (updated == 0) {
+                continue;
+            }
+            eventPublisher.publishEvent(new MeetingStatusChangedEvent(List.of(meeting.getId())));
+
+            Map<String, Object> details = new HashMap<>();
+            details.put("previousStatus", "PROCESSING");
+            details.put("lastUpdatedAt", meeting.getUpdatedAt().toString());
+            details.put("lastHeartbeatAt", meeting.getProcessingHeartbeatAt() != null
+                    ? meeting.getProcessingHeartbeatAt().toString() : null);
+            details.put("staleAfter", staleAfter.toString());
+            logProcessing(meeting, "STALE_RECOVERY", "SUCCESS", details, STALE_ERROR);
+            recovered++;
+        }
+
+        if (recovered > 0) {
+            log.warn("Marked {} stale PROCESSING meetings as FAILED", recovered);
+        } else {
+            log.debug("No stale PROCESSING meetings found");
+        }
+    }
+
+    /**
+     * Queue the current tenant's FAILED meetings for analysis on the worker pool without waiting for
+     * it; each outcome is recorded in processing_logs and the meeting's status when its analysis ends
+     */
+    public BulkReprocessResponse reprocessFailedMeetings(Integer limit) {
+        int batchSize = limit != null && limit > 0 ? Math.min(limit, reprocessBatchSize) : reprocessBatchSize;
+        List<Meeting> failed = meetingRepository.findByTenantIdAndProcessingStatusOrderByUpdatedAtAsc(
+                TenantContext.getTenantId(), "FAILED", PageRequest.of(0, batchSize));
+
+        log.info("Reprocessing {} FAILED meetings", failed.size());
+
+        List<Long> queued = new ArrayList<>();
+        for (Meeting meeting : failed) {
+            if (reprocessOne(meeting)) {
+                queued.add(meeting.getId());
+            }
+        }
+
+        return BulkReprocessResponse.builder()
+                .requested(failed.size())
+                .queued(queued.size())
+                .skipped(failed.size() - queued.size())
+                .queuedMeetingIds(queued)
+                .build();
+    }
+
+    /**
+     * Queue a single meeting for reprocessing, recording its outcome once analysis ends.
+     * False if it was not queued because it is no longer FAILED.
+     */
+    private boolean reprocessOne(Meeting meeting) {
+        String previousError = meeting.getProcessingError();
+
+        try {
+            Optional<CompletableFuture<MeetingResponse>> analysis = meetingService.scheduleReprocessing(meeting.getId());
+            analysis.ifPresent(future -> future.whenComplete((response, ex) -> recordOutcome(meeting, previousError, ex)));
+            return analysis.isPresent();
+        } catch (Exception e) {
+            recordOutcome(meeting, previousError, e);
+            return false;
+        }
+    }
+
+    /**
+     * Record the outcome of a reprocessing attempt in processing_logs
+     */
+    private void recordOutcome(Meeting meeting, String previousError, Throwable failure) {
+        Map<String, Object> details = new HashMap<>();
+        details.put("previousError", previousError);
+
+        if (failure == null) {
+            logProcessing(meeting, "REPROCESS", "SUCCESS", details, null);
+            return;
+        }
+
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        if (cause instanceof AnalysisSupersededException) {
+            // The meeting was deleted or taken over meanwhile; whoever did so records its own outcome
+            log.info("Reprocessing of meeting {} was superseded: {}", meeting.getId(), cause.getMessage());
+            return;
+        }
+        log.warn("Reprocessing failed for meeting {}: {}", meeting.getId(), cause.getMessage());
+        logProcessing(meeting, "REPROCESS", "FAILURE", details, cause.getMessage());
+    }
+
+    /**
+     * Log processing operation
+     */
+    private void logProcessing(Meeting meeting, String operation, String status,
+                               Map<String, Object> details, String errorMessage) {
+        ProcessingLog entry = ProcessingLog.builder()
+                .meeting(meeting)
+                .operation(operation)
+                .status(status)
+                .details(details)
+                .errorMessage(errorMessage)
+                .build();
+
+        processingLogRepository.save(entry);
+    }
+}
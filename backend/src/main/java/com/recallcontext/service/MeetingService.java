@@ -1,18 +1,43 @@
 package com.recallcontext.service;
 
+import com.recallcontext.config.BatchReadProperties;
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.AnalysisSupersededException;
+import com.recallcontext.exception.InvalidQueryParameterException;
 import com.recallcontext.exception.TranscriptProcessingException;
+import com.recallcontext.model.dto.MeetingBatchResponse;
 import com.recallcontext.model.dto.MeetingResponse;
+import com.recallcontext.model.dto.MeetingSearchRequest;
+import com.recallcontext.model.dto.MeetingSearchResponse;
 import com.recallcontext.model.dto.ProcessingStatusResponse;
 import com.recallcontext.model.entity.*;
 import com.recallcontext.repository.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,70 +45,275 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MeetingService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("meetingDate"), Sort.Order.desc("id"));
+
+    /**
+     * Optional sub-resources of a meeting response, each costing one extra query per meeting
+     */
+    public enum Include {
+        SUMMARY("summary"), PARTICIPANTS("participants"), ACTION_ITEMS("actionItems");
+
+        private final String parameterName;
+
+        Include(String parameterName) {
+            this.parameterName = parameterName;
+        }
+
+        /**
+         * Parse a comma-separated include list; null means everything, blank means nothing
+         */
+        public static EnumSet<Include> parse(String value) {
+            if (value == null) {
+                return EnumSet.allOf(Include.class);
+            }
+
+            EnumSet<Include> includes = EnumSet.noneOf(Include.class);
+            for (String name : value.split(",")) {
+                String trimmed = name.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                includes.add(fromParameterName(trimmed));
+            }
+            return includes;
+        }
+
+        private static Include fromParameterName(String name) {
+            for (Include include : values()) {
+                if (include.parameterName.equalsIgnoreCase(name)) {
+                    return include;
+                }
+            }
+            throw new InvalidQueryParameterException("Unsupported include: " + name
+                    + " (expected summary, participants or actionItems)");
+        }
+    }
+
     private final MeetingRepository meetingRepository;
     private final MeetingSeriesRepository meetingSeriesRepository;
     private final SummaryRepository summaryRepository;
     private final ParticipantRepository participantRepository;
     private final ActionItemRepository actionItemRepository;
+    private final ActionItemMentionRepository actionItemMentionRepository;
+    private final AnalyticsExportRepository analyticsExportRepository;
+    private final SummaryTrendService summaryTrendService;
     private final TranscriptParserService parserService;
     private final SummaryService summaryService;
     private final SettingsService settingsService;
+    private final ContentHashService contentHashService;
+    private final UploadIdempotencyService idempotencyService;
+    private final AnalysisScheduler analysisScheduler;
+    private final TenantService tenantService;
+    private final TranscriptBlobStore transcriptBlobStore;
+    private final BatchReadProperties batchReadProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Upload and process a meeting transcript
      */
-    @Transactional
     public MeetingResponse uploadTranscript(String filename, String content) {
+        return uploadTranscript(filename, content, null).getMeeting();
+    }
+
+    /**
+     * Upload and process a meeting transcript, replaying the original result for retried requests
+     */
+    public UploadOutcome uploadTranscript(String filename, String content, String idempotencyKey) {
+        String contentHash = contentHashService.sha256Hex(content);
+        return upload(filename, contentHash, idempotencyKey,
+                meetingType -> transcriptBlobStore.putText(contentHash, content, meetingType));
+    }
+
+    /**
+     * Upload a transcript spooled to disk; unless it is a replay, the spooled file is moved into the blob store
+     */
+    public UploadOutcome uploadTranscript(String filename, TranscriptSpoolService.SpooledTranscript spooled,
+                                          String idempotencyKey) {
+        return upload(filename, spooled.getContentHash(), idempotencyKey, meetingType -> {
+            spooled.validateUtf8();
+            transcriptBlobStore.putFile(spooled.getContentHash(), spooled.getFile(), meetingType);
+            return spooled.getSizeBytes();
+        });
+    }
+
+    /**
+     * @param storeTranscript writes the transcript to the blob store for a meeting type and returns its size in bytes
+     */
+    private UploadOutcome upload(String filename, String contentHash, String idempotencyKey,
+                                 Function<String, Long> storeTranscript) {
         log.info("Uploading transcript: {}", filename);
 
+        Long tenantId = TenantContext.getTenantId();
+        UploadIdempotencyKey claim = null;
+
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            String requestHash = contentHashService.sha256Hex(filename + "\n" + contentHash);
+            UploadIdempotencyService.Claim result = idempotencyService.claim(tenantId, idempotencyKey, requestHash);
+            if (result.isReplay()) {
+                log.info("Replaying meeting {} for idempotency key {}", result.getExistingMeetingId(), idempotencyKey);
+                return new UploadOutcome(getMeetingById(result.getExistingMeetingId()), true);
+            }
+            claim = result.getKey();
+        } else {
+            Optional<Meeting> duplicate = idempotencyService.findRecentDuplicate(tenantId, filename, contentHash);
+            if (duplicate.isPresent()) {
+                log.info("Duplicate upload of {} matches meeting {}", filename, duplicate.get().getId());
+                return new UploadOutcome(convertToResponse(duplicate.get()), true);
+            }
+        }
+
+        Meeting meeting = null;
         try {
             // Parse filename to extract metadata
             TranscriptParserService.ParsedMetadata metadata = parserService.parseFilename(filename);
 
+            // Stored before the meeting row; a blob left behind by a failed upload is collected as an orphan
+            long transcriptSize = storeTranscript.apply(metadata.getMeetingType());
+
             // Find or create meeting series
-            MeetingSeries series = findOrCreateSeries(metadata.getSeriesName(), metadata.getMeetingType());
+            MeetingSeries series = findOrCreateSeries(tenantId, metadata.getSeriesName(), metadata.getMeetingType());
 
             // Create meeting entity
-            Meeting meeting = Meeting.builder()
+            meeting = Meeting.builder()
+                    .tenantId(tenantId)
+                    .uploadedBy(TenantContext.getUserId())
                     .series(series)
                     .meetingDate(metadata.getMeetingDate())
                     .meetingType(metadata.getMeetingType())
                     .seriesName(metadata.getSeriesName())
                     .originalFilename(filename)
-                    .transcriptContent(content)
+                    .contentHash(contentHash)
+                    .transcriptSize(transcriptSize)
                     .processingStatus("PROCESSING")
                     .build();
 
+            // Committed before analysis so a FAILED status survives the analysis rollback
             meeting = meetingRepository.save(meeting);
+            eventPublisher.publishEvent(new MeetingStatusChangedEvent(List.of(meeting.getId())));
             log.info("Created meeting entity with ID: {}", meeting.getId());
 
-            // Process with AI (synchronous for MVP)
-            try {
-                String apiKey = settingsService.getApiKey();
-                summaryService.analyzeAndStoreMeeting(meeting, apiKey);
+            if (claim != null) {
+                idempotencyService.attachMeeting(claim, meeting.getId());
+            }
 
-                // Update status to COMPLETED
-                meeting.setProcessingStatus("COMPLETED");
-                meetingRepository.save(meeting);
+            // Queue for AI analysis by meeting type priority and wait for the result
+            awaitAnalysis(meeting, false);
 
-                log.info("Successfully processed meeting {}", meeting.getId());
+            return new UploadOutcome(convertToResponse(reload(meeting)), false);
 
-            } catch (Exception e) {
-                log.error("Error processing meeting {}", meeting.getId(), e);
-                meeting.setProcessingStatus("FAILED");
-                meeting.setProcessingError(e.getMessage());
-                meetingRepository.save(meeting);
+        } catch (Exception e) {
+            log.error("Error uploading transcript", e);
+            if (claim != null && (meeting == null || meeting.getId() == null)) {
+                idempotencyService.release(claim);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Queue AI analysis of a FAILED meeting from its stored transcript. Empty if the meeting is no longer
+     * FAILED, e.g. because a concurrent request already queued it.
+     */
+    public Optional<CompletableFuture<MeetingResponse>> scheduleReprocessing(Long id) {
+        Meeting meeting = findMeeting(id);
+
+        // Conditional update so concurrent requests cannot queue the same meeting twice
+        int updated = meetingRepository.transitionStatus(id, "FAILED", "PROCESSING", null, LocalDateTime.now());
+        if (updated == 0) {
+            log.info("Meeting {} is no longer FAILED, not reprocessing", id);
+            return Optional.empty();
+        }
+        log.info("Reprocessing meeting {}", id);
+
+        meeting.setProcessingStatus("PROCESSING");
+        meeting.setProcessingError(null);
+        eventPublisher.publishEvent(new MeetingStatusChangedEvent(List.of(id)));
+
+        return Optional.of(scheduleAnalysis(meeting, true)
+                .thenApply(ignored -> convertToResponse(reload(meeting))));
+    }
+
+    /**
+     * Queue AI analysis and block until it has run, rethrowing its failure
+     */
+    private void awaitAnalysis(Meeting meeting, boolean replaceExisting) {
+        try {
+            scheduleAnalysis(meeting, replaceExisting).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Queue analysis of a stored meeting, loading it only when a worker picks it up
+     */
+    public CompletableFuture<Void> scheduleStoredMeeting(Long meetingId, String meetingType) {
+        Tenant tenant = tenantService.resolve(TenantContext.getTenantKey());
+        return analysisScheduler.submit(tenant, meetingId, meetingType, () -> {
+            Meeting meeting = meetingRepository.findById(meetingId)
+                    .orElseThrow(() -> new AnalysisSupersededException("Meeting " + meetingId
+                            + " was deleted while queued, skipping its analysis"));
+            processMeeting(meeting, false);
+        });
+    }
 
-                throw new TranscriptProcessingException(
-                        "Failed to process transcript: " + e.getMessage(), e
-                );
+    private CompletableFuture<Void> scheduleAnalysis(Meeting meeting, boolean replaceExisting) {
+        Tenant tenant = tenantService.resolve(TenantContext.getTenantKey());
+        return analysisScheduler.submit(tenant, meeting.getId(), meeting.getMeetingType(),
+                () -> processMeeting(meeting, replaceExisting));
+    }
+
+    /**
+     * Run AI analysis and record the resulting processing status. Both outcomes are written only if the
+     * meeting is still PROCESSING, so a meeting deleted, swept or queued again meanwhile is left as it is.
+     */
+    private void processMeeting(Meeting meeting, boolean replaceExisting) {
+        try {
+            // Refresh updated_at so time spent queued is not mistaken for a stalled analysis; a meeting that
+            // was deleted, swept or taken over while queued is not analyzed at all
+            if (meetingRepository.transitionStatus(meeting.getId(), "PROCESSING", "PROCESSING", null,
+                    LocalDateTime.now()) == 0) {
+                throw new AnalysisSupersededException("Meeting " + meeting.getId()
+                        + " is no longer PROCESSING, skipping its analysis");
             }
 
-            return convertToResponse(meeting, false);
+            // Runs on an analysis worker, so use the uploader's key rather than the request context
+            String apiKey = settingsService.getApiKey(meeting.getUploadedBy(), meeting.getTenantId());
 
-        } catch (Exception e) {
-            log.error("Error uploading transcript", e);
+            // Marks the meeting COMPLETED along with the results
+            if (replaceExisting) {
+                summaryService.reanalyzeAndStoreMeeting(meeting, apiKey);
+            } else {
+                summaryService.analyzeAndStoreMeeting(meeting, apiKey);
+            }
+
+            meeting.setProcessingStatus("COMPLETED");
+            meeting.setProcessingError(null);
+            eventPublisher.publishEvent(new MeetingStatusChangedEvent(List.of(meeting.getId())));
+
+            log.info("Successfully processed meeting {}", meeting.getId());
+
+        } catch (AnalysisSupersededException e) {
+            log.info("Dropped analysis of meeting {}: {}", meeting.getId(), e.getMessage());
             throw e;
+
+        } catch (Exception e) {
+            log.error("Error processing meeting {}", meeting.getId(), e);
+            int updated = meetingRepository.transitionStatus(
+                    meeting.getId(), "PROCESSING", "FAILED", e.getMessage(), LocalDateTime.now());
+            if (updated > 0) {
+                meeting.setProcessingStatus("FAILED");
+                meeting.setProcessingError(e.getMessage());
+                eventPublisher.publishEvent(new MeetingStatusChangedEvent(List.of(meeting.getId())));
+            }
+
+            throw new TranscriptProcessingException(
+                    "Failed to process transcript: " + e.getMessage(), e
+            );
         }
     }
 
@@ -91,26 +321,114 @@ public class MeetingService {
      * Get meeting by ID
      */
     public MeetingResponse getMeetingById(Long id) {
-        Meeting meeting = meetingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Meeting not found with ID: " + id));
+        return getMeetingById(id, EnumSet.allOf(Include.class));
+    }
+
+    /**
+     * Get meeting by ID with only the requested sub-resources loaded
+     */
+    public MeetingResponse getMeetingById(Long id, EnumSet<Include> includes) {
+        Meeting meeting = findMeeting(id);
+
+        return convertToResponse(meeting, includes);
+    }
+
+    /**
+     * Get several meetings by ID in one round trip, in request order, listing the IDs not found
+     */
+    public MeetingBatchResponse getMeetingsByIds(List<Long> ids, EnumSet<Include> includes) {
+        List<Long> requested = BatchIds.distinctInOrder(ids, batchReadProperties.getMaxIds());
+
+        Map<Long, Meeting> found = meetingRepository.findByIdInAndTenantId(requested, TenantContext.getTenantId())
+                .stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+        List<Meeting> ordered = requested.stream()
+                .filter(found::containsKey)
+                .map(found::get)
+                .collect(Collectors.toList());
+
+        return MeetingBatchResponse.builder()
+                .meetings(convertToResponses(ordered, includes))
+                .missingIds(requested.stream()
+                        .filter(id -> !found.containsKey(id))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Content hash of a meeting's transcript, which doubles as its ETag
+     */
+    public String getTranscriptHash(Long id) {
+        return findMeeting(id).getContentHash();
+    }
 
-        return convertToResponse(meeting, true);
+    /**
+     * Transcript text as a resource, so it can be served whole or by byte range
+     */
+    public Resource openTranscript(String contentHash) {
+        return transcriptBlobStore.readResource(contentHash);
     }
 
     /**
-     * Get all meetings (paginated)
+     * Get all meetings (paginated) with only the requested sub-resources loaded
      */
-    public Page<MeetingResponse> getAllMeetings(Pageable pageable) {
-        return meetingRepository.findAllByOrderByMeetingDateDesc(pageable)
-                .map(meeting -> convertToResponse(meeting, false));
+    public Page<MeetingResponse> getAllMeetings(Pageable pageable, EnumSet<Include> includes) {
+        Page<Meeting> meetings = meetingRepository.findByTenantIdOrderByMeetingDateDesc(TenantContext.getTenantId(), pageable);
+        return new PageImpl<>(convertToResponses(meetings.getContent(), includes), pageable, meetings.getTotalElements());
+    }
+
+    /**
+     * Search the current tenant's meetings newest first. Pages are keyset-based: the cursor holds the
+     * (meetingDate, id) of the last meeting returned, so deep pages cost the same as the first.
+     */
+    public MeetingSearchResponse searchMeetings(MeetingSearchRequest filter, String cursor, int size,
+                                                EnumSet<Include> includes) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new InvalidQueryParameterException("from must not be after to");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+
+        Specification<Meeting> spec = MeetingSpecifications.belongsToTenant(TenantContext.getTenantId());
+        if (filter.getMeetingType() != null) {
+            spec = spec.and(MeetingSpecifications.ofType(filter.getMeetingType()));
+        }
+        if (filter.getSeriesName() != null) {
+            spec = spec.and(MeetingSpecifications.inSeries(filter.getSeriesName()));
+        }
+        if (filter.getStatus() != null) {
+            spec = spec.and(MeetingSpecifications.withStatus(filter.getStatus()));
+        }
+        if (filter.getFrom() != null) {
+            spec = spec.and(MeetingSpecifications.onOrAfter(filter.getFrom().atStartOfDay()));
+        }
+        if (filter.getTo() != null) {
+            spec = spec.and(MeetingSpecifications.before(filter.getTo().plusDays(1).atStartOfDay()));
+        }
+        if (filter.getParticipant() != null && !filter.getParticipant().isBlank()) {
+            spec = spec.and(MeetingSpecifications.withParticipant(filter.getParticipant().trim()));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(decodeCursor(cursor));
+        }
+
+        // One extra row tells us whether there is a next page without a count query
+        List<Meeting> meetings = meetingRepository.findBy(spec, query -> query.sortBy(NEWEST_FIRST).limit(limit + 1).all());
+        boolean hasMore = meetings.size() > limit;
+        if (hasMore) {
+            meetings = meetings.subList(0, limit);
+        }
+
+        return MeetingSearchResponse.builder()
+                .meetings(convertToResponses(meetings, includes))
+                .nextCursor(hasMore ? encodeCursor(meetings.get(meetings.size() - 1)) : null)
+                .build();
     }
 
     /**
      * Get processing status
      */
     public ProcessingStatusResponse getProcessingStatus(Long id) {
-        Meeting meeting = meetingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Meeting not found with ID: " + id));
+        Meeting meeting = findMeeting(id);
 
         return ProcessingStatusResponse.builder()
                 .meetingId(meeting.getId())
@@ -125,21 +443,57 @@ public class MeetingService {
     @Transactional
     public void deleteMeeting(Long id) {
         log.info("Deleting meeting {}", id);
-        Meeting meeting = meetingRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Meeting not found with ID: " + id));
+        Meeting meeting = findMeeting(id);
 
+        summaryRepository.findByMeetingId(id).ifPresent(summaryTrendService::retractSummary);
+        List<AnalyticsExportRepository.Tombstone> deleted = analyticsExportRepository.findMeetingRows(id, true);
         meetingRepository.delete(meeting);
+        analyticsExportRepository.recordDeletions(meeting.getTenantId(), meeting.getMeetingDate().toLocalDate(), deleted);
         log.info("Deleted meeting {}", id);
     }
 
+    /**
+     * Find a meeting owned by the current tenant
+     */
+    private Meeting findMeeting(Long id) {
+        return meetingRepository.findByIdAndTenantId(id, TenantContext.getTenantId())
+                .orElseThrow(() -> new RuntimeException("Meeting not found with ID: " + id));
+    }
+
+    /**
+     * Re-read a meeting after analysis, picking up the card fields maintained outside the entity
+     */
+    private Meeting reload(Meeting meeting) {
+        return meetingRepository.findById(meeting.getId()).orElse(meeting);
+    }
+
+    private String encodeCursor(Meeting last) {
+        String position = last.getMeetingDate() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Specification<Meeting> decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf('|');
+            return MeetingSpecifications.after(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    Long.parseLong(position.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidQueryParameterException("Invalid cursor: " + cursor);
+        }
+    }
+
     /**
      * Find or create meeting series
      */
-    private MeetingSeries findOrCreateSeries(String seriesName, String meetingType) {
+    MeetingSeries findOrCreateSeries(Long tenantId, String seriesName, String meetingType) {
         return meetingSeriesRepository
-                .findBySeriesNameAndMeetingType(seriesName, meetingType)
+                .findByTenantIdAndSeriesNameAndMeetingType(tenantId, seriesName, meetingType)
                 .orElseGet(() -> {
                     MeetingSeries series = MeetingSeries.builder()
+                            .tenantId(tenantId)
                             .seriesName(seriesName)
                             .meetingType(meetingType)
                             .build();
@@ -148,45 +502,101 @@ public class MeetingService {
     }
 
     /**
-     * Convert Meeting entity to MeetingResponse DTO
+     * Convert Meeting entity to MeetingResponse DTO with every sub-resource
      */
-    private MeetingResponse convertToResponse(Meeting meeting, boolean includeTranscript) {
-        MeetingResponse.MeetingResponseBuilder builder = MeetingResponse.builder()
-                .id(meeting.getId())
-                .meetingDate(meeting.getMeetingDate())
-                .meetingType(meeting.getMeetingType())
-                .seriesName(meeting.getSeriesName())
-                .originalFilename(meeting.getOriginalFilename())
-                .processingStatus(meeting.getProcessingStatus())
-                .processingError(meeting.getProcessingError())
-                .createdAt(meeting.getCreatedAt());
-
-        // Include transcript if requested (for detail view)
-        if (includeTranscript) {
-            builder.transcriptContent(meeting.getTranscriptContent());
-        }
+    private MeetingResponse convertToResponse(Meeting meeting) {
+        return convertToResponse(meeting, EnumSet.allOf(Include.class));
+    }
 
-        // Include summary if exists
-        summaryRepository.findByMeetingId(meeting.getId())
-                .ifPresent(summary -> builder.summary(convertSummaryToDto(summary)));
+    /**
+     * Convert Meeting entity to MeetingResponse DTO; sub-resources not included are never queried
+     */
+    private MeetingResponse convertToResponse(Meeting meeting, EnumSet<Include> includes) {
+        return convertToResponses(List.of(meeting), includes).get(0);
+    }
 
-        // Include participants
-        List<Participant> participants = participantRepository.findByMeetingId(meeting.getId());
-        if (!participants.isEmpty()) {
-            builder.participants(participants.stream()
-                    .map(this::convertParticipantToDto)
-                    .collect(Collectors.toList()));
+    /**
+     * Convert Meeting entities to MeetingResponse DTOs, loading each included sub-resource
+     * for all of them with one query rather than one per meeting
+     */
+    private List<MeetingResponse> convertToResponses(List<Meeting> meetings, EnumSet<Include> includes) {
+        if (meetings.isEmpty()) {
+            return List.of();
         }
+        List<Long> meetingIds = meetings.stream().map(Meeting::getId).collect(Collectors.toList());
+
+        Map<Long, Summary> summaries = includes.contains(Include.SUMMARY)
+                ? summaryRepository.findByMeetingIdIn(meetingIds).stream()
+                        .collect(Collectors.toMap(summary -> summary.getMeeting().getId(), Function.identity()))
+                : Map.of();
+        Map<Long, List<Participant>> participants = includes.contains(Include.PARTICIPANTS)
+                ? participantRepository.findByMeetingIdInOrderByIdAsc(meetingIds).stream()
+                        .collect(Collectors.groupingBy(participant -> participant.getMeeting().getId()))
+                : Map.of();
+        Map<Long, List<ActionItem>> actionItems = includes.contains(Include.ACTION_ITEMS)
+                ? actionItemRepository.findByMeetingIdInOrderByIdAsc(meetingIds).stream()
+                        .collect(Collectors.groupingBy(action -> action.getMeeting().getId()))
+                : Map.of();
+        Map<Long, List<Long>> mentionedActionIds = includes.contains(Include.ACTION_ITEMS)
+                ? actionItemMentionRepository.findActionIdsByMeetingIds(meetingIds)
+                : Map.of();
+        Map<Long, ActionItem> mentionedActions = mentionedActionIds.isEmpty()
+                ? Map.of()
+                : actionItemRepository.findAllById(mentionedActionIds.values().stream()
+                                .flatMap(List::stream).distinct().toList()).stream()
+                        .collect(Collectors.toMap(ActionItem::getId, Function.identity()));
+
+        return meetings.stream().map(meeting -> {
+            MeetingResponse.MeetingResponseBuilder builder = MeetingResponse.builder()
+                    .id(meeting.getId())
+                    .meetingDate(meeting.getMeetingDate())
+                    .meetingType(meeting.getMeetingType())
+                    .seriesName(meeting.getSeriesName())
+                    .originalFilename(meeting.getOriginalFilename())
+                    .processingStatus(meeting.getProcessingStatus())
+                    .processingError(meeting.getProcessingError())
+                    .transcriptSize(meeting.getTranscriptSize())
+                    .actionCount(meeting.getActionCount())
+                    .openActionCount(meeting.getOpenActionCount())
+                    .participantCount(meeting.getParticipantCount())
+                    .summarySnippet(meeting.getSummarySnippet())
+                    .createdAt(meeting.getCreatedAt());
+
+            // Include summary if exists
+            Summary summary = summaries.get(meeting.getId());
+            if (summary != null) {
+                builder.summary(convertSummaryToDto(summary));
+            }
 
-        // Include action items
-        List<ActionItem> actionItems = actionItemRepository.findByMeetingId(meeting.getId());
-        if (!actionItems.isEmpty()) {
-            builder.actionItems(actionItems.stream()
-                    .map(this::convertActionItemToDto)
-                    .collect(Collectors.toList()));
-        }
+            // Include participants
+            List<Participant> meetingParticipants = participants.get(meeting.getId());
+            if (meetingParticipants != null) {
+                builder.participants(meetingParticipants.stream()
+                        .map(this::convertParticipantToDto)
+                        .collect(Collectors.toList()));
+            }
+
+            // Include action items, followed by open actions from earlier meetings that this one repeated
+            List<ActionItem> meetingActions = actionItems.get(meeting.getId());
+            List<Long> repeatedIds = mentionedActionIds.getOrDefault(meeting.getId(), List.of());
+            if (meetingActions != null || !repeatedIds.isEmpty()) {
+                List<MeetingResponse.ActionItemDto> dtos = new ArrayList<>();
+                if (meetingActions != null) {
+                    meetingActions.forEach(action -> dtos.add(convertActionItemToDto(action)));
+                }
+                repeatedIds.stream()
+                        .map(mentionedActions::get)
+                        .filter(Objects::nonNull)
+                        .forEach(action -> {
+                            MeetingResponse.ActionItemDto dto = convertActionItemToDto(action);
+                            dto.setOriginMeetingId(action.getMeeting().getId());
+                            dtos.add(dto);
+                        });
+                builder.actionItems(dtos);
+            }
 
-        return builder.build();
+            return builder.build();
+        }).collect(Collectors.toList());
     }
 
     private MeetingResponse.SummaryDto convertSummaryToDto(Summary summary) {
@@ -202,6 +612,7 @@ public class MeetingService {
     private MeetingResponse.ParticipantDto convertParticipantToDto(Participant participant) {
         return MeetingResponse.ParticipantDto.builder()
                 .id(participant.getId())
+                .personId(participant.getPerson() != null ? participant.getPerson().getId() : null)
                 .name(participant.getName())
                 .role(participant.getRole())
                 .build();
@@ -212,9 +623,20 @@ public class MeetingService {
                 .id(action.getId())
                 .description(action.getDescription())
                 .assignee(action.getAssignee())
+                .assigneePersonId(action.getAssigneePerson() != null ? action.getAssigneePerson().getId() : null)
                 .dueDate(action.getDueDate() != null ? action.getDueDate().toString() : null)
                 .status(action.getStatus())
                 .priority(action.getPriority())
                 .build();
     }
+
+    /**
+     * Upload result, flagged when it replays an earlier upload
+     */
+    @Data
+    @AllArgsConstructor
+    public static class UploadOutcome {
+        private MeetingResponse meeting;
+        private boolean replayed;
+    }
 }
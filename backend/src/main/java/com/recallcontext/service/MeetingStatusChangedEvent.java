@@ -0,0 +1,9 @@
+package com.recallcontext.service;
+
+import java.util.List;
+
+/**
+ * Published when meetings are created or change processing status
+ */
+public record MeetingStatusChangedEvent(List<Long> meetingIds) {
+}
@@ -0,0 +1,136 @@
+package com.recallcontext.service;
+
+import com.recallcontext.model.entity.Person;
+import com.recallcontext.model.entity.PersonAlias;
+import com.recallcontext.repository.PersonAliasRepository;
+import com.recallcontext.repository.PersonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves the free-text names of participants and assignees to people of the tenant's directory.
+ * <p>
+ * A name is looked up by its normalized form among the tenant's aliases. An unknown single name
+ * ("Jane") joins the only person whose full name starts with it; an unknown full name ("Jane Smith")
+ * takes over a person known only by its first name, if no other full name shares it. Anything else
+ * becomes a new person. Every resolved name is stored as an alias so the next lookup is one index probe.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PersonDirectoryService {
+
+    private static final Set<String> PLACEHOLDERS = Set.of("unassigned", "tbd", "none", "n/a", "unknown");
+
+    private final PersonRepository personRepository;
+    private final PersonAliasRepository personAliasRepository;
+
+    /**
+     * Resolve each distinct name, keyed by the name as given; placeholders and blanks are left out
+     */
+    @Transactional
+    public Map<String, Person> resolveAll(Long tenantId, Collection<String> names) {
+        Map<String, Person> people = new HashMap<>();
+        for (String name : names) {
+            if (name != null && !people.containsKey(name)) {
+                Person person = resolve(tenantId, name);
+                if (person != null) {
+                    people.put(name, person);
+                }
+            }
+        }
+        return people;
+    }
+
+    /**
+     * The person a name refers to, created if needed, or null for a blank or placeholder name
+     */
+    @Transactional
+    public Person resolve(Long tenantId, String name) {
+        String displayName = displayName(name);
+        String normalized = normalize(name);
+        if (normalized == null) {
+            return null;
+        }
+
+        Optional<PersonAlias> alias = personAliasRepository.findByTenantIdAndAlias(tenantId, normalized);
+        if (alias.isPresent()) {
+            return alias.get().getPerson();
+        }
+
+        Person person = matchByFirstName(tenantId, displayName, normalized)
+                .orElseGet(() -> {
+                    personRepository.insertIfAbsent(tenantId, displayName, normalized);
+                    return personRepository.findByTenantIdAndNormalizedName(tenantId, normalized).orElseThrow();
+                });
+        personAliasRepository.insertIfAbsent(person.getId(), tenantId, normalized);
+
+        // A concurrent analysis may have registered the alias first
+        return personAliasRepository.findByTenantIdAndAlias(tenantId, normalized)
+                .map(PersonAlias::getPerson)
+                .orElse(person);
+    }
+
+    /**
+     * The person a name is already an alias of, without creating one
+     */
+    @Transactional(readOnly = true)
+    public Optional<Person> find(Long tenantId, String name) {
+        String normalized = normalize(name);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        return personAliasRepository.findByTenantIdAndAlias(tenantId, normalized).map(PersonAlias::getPerson);
+    }
+
+    /**
+     * Lower-cased name with whitespace collapsed, or null for a blank or placeholder name
+     */
+    public static String normalize(String name) {
+        String displayName = displayName(name);
+        if (displayName == null) {
+            return null;
+        }
+        String normalized = displayName.toLowerCase(Locale.ROOT);
+        return PLACEHOLDERS.contains(normalized) ? null : normalized;
+    }
+
+    private Optional<Person> matchByFirstName(Long tenantId, String displayName, String normalized) {
+        int space = normalized.indexOf(' ');
+        if (space < 0) {
+            List<Person> fullNames = personRepository.findByTenantIdAndNormalizedNameStartingWith(tenantId, normalized + " ");
+            return fullNames.size() == 1 ? Optional.of(fullNames.get(0)) : Optional.empty();
+        }
+
+        String firstName = normalized.substring(0, space);
+        Optional<Person> firstNameOnly = personRepository.findByTenantIdAndNormalizedName(tenantId, firstName);
+        if (firstNameOnly.isEmpty()
+                || !personRepository.findByTenantIdAndNormalizedNameStartingWith(tenantId, firstName + " ").isEmpty()) {
+            return Optional.empty();
+        }
+
+        Person person = firstNameOnly.get();
+        log.info("Resolved '{}' to person {} known as '{}'", displayName, person.getId(), person.getDisplayName());
+        person.setDisplayName(displayName);
+        person.setNormalizedName(normalized);
+        return Optional.of(personRepository.save(person));
+    }
+
+    private static String displayName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String collapsed = name.strip().replaceAll("\\s+", " ");
+        return collapsed.isEmpty() ? null : collapsed;
+    }
+}
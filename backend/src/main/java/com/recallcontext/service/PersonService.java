@@ -0,0 +1,119 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.InvalidQueryParameterException;
+import com.recallcontext.exception.PersonNotFoundException;
+import com.recallcontext.model.dto.PersonResponse;
+import com.recallcontext.model.dto.PersonTimelineResponse;
+import com.recallcontext.model.entity.Meeting;
+import com.recallcontext.model.entity.Person;
+import com.recallcontext.model.entity.PersonAlias;
+import com.recallcontext.repository.ParticipantRepository;
+import com.recallcontext.repository.PersonAliasRepository;
+import com.recallcontext.repository.PersonRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PersonService {
+
+    public static final int MAX_TIMELINE_LIMIT = 500;
+
+    private final PersonRepository personRepository;
+    private final PersonAliasRepository personAliasRepository;
+    private final ParticipantRepository participantRepository;
+    private final ActionService actionService;
+
+    /**
+     * The current tenant's people by name, with their aliases
+     */
+    public Page<PersonResponse> getPeople(Pageable pageable) {
+        Page<Person> people = personRepository.findByTenantIdOrderByDisplayNameAsc(TenantContext.getTenantId(), pageable);
+        Map<Long, List<String>> aliases = findAliases(people.getContent());
+        return new PageImpl<>(people.getContent().stream()
+                .map(person -> convertToResponse(person, aliases.getOrDefault(person.getId(), List.of())))
+                .collect(Collectors.toList()), pageable, people.getTotalElements());
+    }
+
+    /**
+     * Meetings a person attended and actions assigned to them, each read through its person index
+     */
+    public PersonTimelineResponse getTimeline(Long id, int limit) {
+        if (limit < 1 || limit > MAX_TIMELINE_LIMIT) {
+            throw new InvalidQueryParameterException("limit must be between 1 and " + MAX_TIMELINE_LIMIT);
+        }
+        Person person = findPerson(id);
+
+        List<PersonTimelineResponse.MeetingEntry> meetings = participantRepository
+                .findWithMeetingByPersonId(id, PageRequest.of(0, limit)).stream()
+                .map(participant -> {
+                    Meeting meeting = participant.getMeeting();
+                    return PersonTimelineResponse.MeetingEntry.builder()
+                            .meetingId(meeting.getId())
+                            .meetingDate(meeting.getMeetingDate())
+                            .meetingType(meeting.getMeetingType())
+                            .seriesName(meeting.getSeriesName())
+                            .nameInMeeting(participant.getName())
+                            .role(participant.getRole())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return PersonTimelineResponse.builder()
+                .person(convertToResponse(person, findAliases(List.of(person)).getOrDefault(id, List.of())))
+                .meetings(meetings)
+                .actions(actionService.getActionsAssignedTo(id, limit))
+                .build();
+    }
+
+    /**
+     * Make a name resolve to this person in future analyses, taking it from any other person
+     */
+    @Transactional
+    public PersonResponse addAlias(Long id, String alias) {
+        Person person = findPerson(id);
+        String normalized = PersonDirectoryService.normalize(alias);
+        if (normalized == null) {
+            throw new InvalidQueryParameterException("'" + alias + "' cannot be used as an alias");
+        }
+
+        personAliasRepository.assign(person.getId(), person.getTenantId(), normalized);
+        log.info("Alias '{}' now resolves to person {}", normalized, id);
+
+        return convertToResponse(person, findAliases(List.of(person)).getOrDefault(id, List.of()));
+    }
+
+    private Person findPerson(Long id) {
+        return personRepository.findByIdAndTenantId(id, TenantContext.getTenantId())
+                .orElseThrow(() -> new PersonNotFoundException("Person not found with ID: " + id));
+    }
+
+    private Map<Long, List<String>> findAliases(List<Person> people) {
+        if (people.isEmpty()) {
+            return Map.of();
+        }
+        return personAliasRepository.findByPersonIdIn(people.stream().map(Person::getId).toList()).stream()
+                .collect(Collectors.groupingBy(alias -> alias.getPerson().getId(),
+                        Collectors.mapping(PersonAlias::getAlias, Collectors.toList())));
+    }
+
+    private PersonResponse convertToResponse(Person person, List<String> aliases) {
+        return PersonResponse.builder()
+                .id(person.getId())
+                .displayName(person.getDisplayName())
+                .aliases(aliases)
+                .build();
+    }
+}
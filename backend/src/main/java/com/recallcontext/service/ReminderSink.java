@@ -0,0 +1,25 @@
+package com.recallcontext.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Destination for action item due-date reminders. Every sink bean receives every reminder, from the
+ * one instance that claimed it; reminders also always appear in the change feed.
+ */
+public interface ReminderSink {
+
+    void send(Reminder reminder);
+
+    record Reminder(
+            Long actionId,
+            Long tenantId,
+            Long meetingId,
+            String description,
+            String assignee,
+            String priority,
+            LocalDate dueDate,
+            LocalDateTime firedAt
+    ) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.recallcontext.service;
 
+import com.recallcontext.config.TenantContext;
 import com.recallcontext.exception.ApiKeyNotFoundException;
 import com.recallcontext.model.entity.UserSettings;
 import com.recallcontext.repository.UserSettingsRepository;
@@ -8,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -16,41 +19,47 @@ public class SettingsService {
     private final UserSettingsRepository userSettingsRepository;
     private final EncryptionService encryptionService;
 
-    private static final String DEFAULT_USER_ID = "default-user";
-
     /**
-     * Store or update the user's API key (encrypted)
+     * Store or update the current user's API key (encrypted)
      */
     @Transactional
     public void saveApiKey(String apiKey) {
-        log.info("Saving API key for user: {}", DEFAULT_USER_ID);
+        String userId = TenantContext.getUserId();
+        Long tenantId = TenantContext.getTenantId();
+        log.info("Saving API key for user: {}", userId);
 
         // Encrypt the API key
         EncryptionService.EncryptionResult encryptionResult =
-                encryptionService.encrypt(apiKey, DEFAULT_USER_ID);
+                encryptionService.encrypt(apiKey, userId);
 
         // Find or create user settings
-        UserSettings settings = userSettingsRepository
-                .findByUserId(DEFAULT_USER_ID)
+        UserSettings settings = findSettings(userId, tenantId)
                 .orElse(UserSettings.builder()
-                        .userId(DEFAULT_USER_ID)
+                        .userId(userId)
+                        .tenantId(tenantId)
                         .build());
 
         settings.setEncryptedApiKey(encryptionResult.getEncryptedApiKey());
         settings.setEncryptionIv(encryptionResult.getIv());
 
         userSettingsRepository.save(settings);
-        log.info("API key saved successfully for user: {}", DEFAULT_USER_ID);
+        log.info("API key saved successfully for user: {}", userId);
     }
 
     /**
-     * Retrieve the decrypted API key
+     * Retrieve the current user's decrypted API key
      */
     public String getApiKey() {
-        log.debug("Retrieving API key for user: {}", DEFAULT_USER_ID);
+        return getApiKey(TenantContext.getUserId(), TenantContext.getTenantId());
+    }
+
+    /**
+     * Retrieve a user's decrypted API key, for work running outside the request thread
+     */
+    public String getApiKey(String userId, Long tenantId) {
+        log.debug("Retrieving API key for user: {}", userId);
 
-        UserSettings settings = userSettingsRepository
-                .findByUserId(DEFAULT_USER_ID)
+        UserSettings settings = findSettings(userId, tenantId)
                 .orElseThrow(() -> new ApiKeyNotFoundException("API key not configured. Please configure your Anthropic API key in settings."));
 
         // Check if API key is configured (not the placeholder)
@@ -62,35 +71,41 @@ public class SettingsService {
         return encryptionService.decrypt(
                 settings.getEncryptedApiKey(),
                 settings.getEncryptionIv(),
-                DEFAULT_USER_ID
+                userId
         );
     }
 
     /**
-     * Check if API key is configured
+     * Check if the current user's API key is configured
      */
     public boolean isApiKeyConfigured() {
-        return userSettingsRepository
-                .findByUserId(DEFAULT_USER_ID)
+        return findSettings(TenantContext.getUserId(), TenantContext.getTenantId())
                 .map(settings -> !"not-configured".equals(settings.getEncryptedApiKey()))
                 .orElse(false);
     }
 
     /**
-     * Delete the API key
+     * Delete the current user's API key
      */
     @Transactional
     public void deleteApiKey() {
-        log.info("Deleting API key for user: {}", DEFAULT_USER_ID);
+        String userId = TenantContext.getUserId();
+        log.info("Deleting API key for user: {}", userId);
 
-        UserSettings settings = userSettingsRepository
-                .findByUserId(DEFAULT_USER_ID)
+        UserSettings settings = findSettings(userId, TenantContext.getTenantId())
                 .orElseThrow(() -> new ApiKeyNotFoundException("API key not found"));
 
         settings.setEncryptedApiKey("not-configured");
         settings.setEncryptionIv("not-configured");
 
         userSettingsRepository.save(settings);
-        log.info("API key deleted successfully for user: {}", DEFAULT_USER_ID);
+        log.info("API key deleted successfully for user: {}", userId);
+    }
+
+    /**
+     * Settings of a user within the given tenant
+     */
+    private Optional<UserSettings> findSettings(String userId, Long tenantId) {
+        return userSettingsRepository.findByUserIdAndTenantId(userId, tenantId);
     }
 }
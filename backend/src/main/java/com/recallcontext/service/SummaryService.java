@@ -1,16 +1,22 @@
 package com.recallcontext.service;
 
+import com.recallcontext.exception.AnalysisSupersededException;
 import com.recallcontext.model.entity.*;
 import com.recallcontext.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Slf4j
@@ -18,22 +24,48 @@ import java.util.List;
 public class SummaryService {
 
     private final AnthropicService anthropicService;
+    private final MeetingRepository meetingRepository;
     private final SummaryRepository summaryRepository;
     private final ParticipantRepository participantRepository;
     private final ActionItemRepository actionItemRepository;
+    private final ActionItemMentionRepository actionItemMentionRepository;
+    private final ActionDeduplicationService actionDeduplicationService;
+    private final PersonDirectoryService personDirectoryService;
+    private final SummaryTrendService summaryTrendService;
+    private final MeetingCardRepository meetingCardRepository;
+    private final AnalyticsExportRepository analyticsExportRepository;
     private final ProcessingLogRepository processingLogRepository;
+    private final TranscriptBlobStore transcriptBlobStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Analyze meeting transcript using AI and store results
      */
     @Transactional
     public void analyzeAndStoreMeeting(Meeting meeting, String apiKey) {
+        analyzeAndStore(meeting, apiKey);
+    }
+
+    /**
+     * Analyze and store the meeting, returning the action items it created. The meeting is marked
+     * COMPLETED in the same transaction, and the results are rolled back if it is no longer PROCESSING,
+     * e.g. because it was deleted, swept as stale or queued again meanwhile.
+     */
+    private List<ActionItem> analyzeAndStore(Meeting meeting, String apiKey) {
         log.info("Analyzing meeting {} with AI", meeting.getId());
 
         try {
             // Call Anthropic API
+            String transcript = transcriptBlobStore.read(meeting.getContentHash());
             AnthropicService.MeetingAnalysis analysis =
-                    anthropicService.analyzeMeetingTranscript(meeting.getTranscriptContent(), apiKey);
+                    anthropicService.analyzeMeetingTranscript(transcript, apiKey);
+
+            // Locks the meeting row until commit, so a concurrent delete waits for the results or sees none
+            if (meetingRepository.transitionStatus(meeting.getId(), "PROCESSING", "COMPLETED", null,
+                    LocalDateTime.now()) == 0) {
+                throw new AnalysisSupersededException("Meeting " + meeting.getId()
+                        + " is no longer PROCESSING, discarding its analysis");
+            }
 
             // Store summary
             storeSummary(meeting, analysis);
@@ -42,13 +74,19 @@ public class SummaryService {
             storeParticipants(meeting, analysis.getParticipants());
 
             // Store action items
-            storeActionItems(meeting, analysis.getActionItems());
+            List<ActionItem> actions = storeActionItems(meeting, analysis.getActionItems());
+
+            // Update the meeting's list card counts and snippet
+            meetingCardRepository.refresh(meeting.getId());
 
             // Log success
             logProcessing(meeting, "AI_ANALYSIS", "SUCCESS", null);
 
             log.info("Successfully analyzed and stored meeting {}", meeting.getId());
+            return actions;
 
+        } catch (AnalysisSupersededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error analyzing meeting {}", meeting.getId(), e);
             logProcessing(meeting, "AI_ANALYSIS", "FAILURE", e.getMessage());
@@ -56,6 +94,55 @@ public class SummaryService {
         }
     }
 
+    /**
+     * Discard any previous analysis results and analyze the meeting again
+     */
+    @Transactional
+    public void reanalyzeAndStoreMeeting(Meeting meeting, String apiKey) {
+        log.info("Clearing previous analysis for meeting {}", meeting.getId());
+
+        // Later meetings' mentions of this meeting's actions go with them, so keep them for re-linking
+        List<ActionItemMentionRepository.Mention> mentions =
+                actionItemMentionRepository.findMentionsOfMeetingActions(meeting.getId());
+        // The replaced rows get new ids, so the analytics export must retract the old ones
+        List<AnalyticsExportRepository.Tombstone> replaced =
+                analyticsExportRepository.findMeetingRows(meeting.getId(), false);
+
+        summaryRepository.findByMeetingId(meeting.getId()).ifPresent(summaryTrendService::retractSummary);
+        summaryRepository.deleteByMeetingId(meeting.getId());
+        participantRepository.deleteByMeetingId(meeting.getId());
+        actionItemRepository.deleteByMeetingId(meeting.getId());
+        actionItemMentionRepository.deleteByMeetingId(meeting.getId());
+
+        List<ActionItem> actions = analyzeAndStore(meeting, apiKey);
+        relinkMentions(meeting, mentions, actions);
+        analyticsExportRepository.recordDeletions(meeting.getTenantId(), meeting.getMeetingDate().toLocalDate(), replaced);
+    }
+
+    /**
+     * Point mentions of the meeting's previous actions at the most similar re-created action of the
+     * same assignee. Mentions of actions the new analysis no longer contains are dropped.
+     */
+    private void relinkMentions(Meeting meeting, List<ActionItemMentionRepository.Mention> mentions,
+                                List<ActionItem> actions) {
+        if (mentions.isEmpty()) {
+            return;
+        }
+
+        ActionSimilarityIndex index = actionDeduplicationService.index(actions);
+        List<ActionItemMentionRepository.Mention> relinked = new ArrayList<>();
+        for (ActionItemMentionRepository.Mention mention : mentions) {
+            index.findDuplicate(mention.actionAssigneePersonId(), mention.actionAssignee(), mention.actionDescription())
+                    .ifPresent(action -> relinked.add(mention.withActionItemId(action.getId())));
+        }
+
+        if (!relinked.isEmpty()) {
+            actionItemMentionRepository.restoreAll(relinked);
+        }
+        log.info("Re-linked {} of {} mentions of actions of meeting {}",
+                relinked.size(), mentions.size(), meeting.getId());
+    }
+
     /**
      * Store summary in database
      */
@@ -71,6 +158,7 @@ public class SummaryService {
                 .build();
 
         summaryRepository.save(summary);
+        summaryTrendService.recordSummary(summary);
         log.debug("Stored summary for meeting {}", meeting.getId());
     }
 
@@ -83,11 +171,15 @@ public class SummaryService {
             return;
         }
 
+        Map<String, Person> people = personDirectoryService.resolveAll(meeting.getTenantId(),
+                participants.stream().map(AnthropicService.MeetingAnalysis.Participant::getName).toList());
+
         List<Participant> participantEntities = new ArrayList<>();
         for (AnthropicService.MeetingAnalysis.Participant p : participants) {
             Participant participant = Participant.builder()
                     .meeting(meeting)
                     .name(p.getName())
+                    .person(people.get(p.getName()))
                     .role(p.getRole())
                     .build();
             participantEntities.add(participant);
@@ -98,18 +190,36 @@ public class SummaryService {
     }
 
     /**
-     * Store action items in database
+     * Store action items in database, returning the created ones. An item that repeats an open action
+     * of the same series and assignee is recorded as a mention of that action instead of a new one, and
+     * an item that repeats one created earlier in the same analysis is dropped.
      */
-    private void storeActionItems(Meeting meeting, List<AnthropicService.MeetingAnalysis.ActionItemData> actionItems) {
+    private List<ActionItem> storeActionItems(Meeting meeting,
+                                              List<AnthropicService.MeetingAnalysis.ActionItemData> actionItems) {
         if (actionItems == null || actionItems.isEmpty()) {
             log.debug("No action items to store for meeting {}", meeting.getId());
-            return;
+            return List.of();
         }
 
         List<ActionItem> actionEntities = new ArrayList<>();
+        Map<Long, String> mentions = new LinkedHashMap<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        ActionSimilarityIndex openActions = actionDeduplicationService.indexOpenActions(meeting);
+        Map<String, Person> assignees = personDirectoryService.resolveAll(meeting.getTenantId(),
+                actionItems.stream().map(AnthropicService.MeetingAnalysis.ActionItemData::getAssignee).toList());
 
         for (AnthropicService.MeetingAnalysis.ActionItemData action : actionItems) {
+            Person assignee = assignees.get(action.getAssignee());
+            Optional<ActionItem> existing = openActions.findDuplicate(
+                    assignee != null ? assignee.getId() : null, action.getAssignee(), action.getDescription());
+            if (existing.isPresent()) {
+                // A repeat of an action created earlier in this analysis is simply dropped
+                if (existing.get().getId() != null) {
+                    mentions.putIfAbsent(existing.get().getId(), action.getDescription());
+                }
+                continue;
+            }
+
             LocalDate dueDate = null;
             if (action.getDueDate() != null && !action.getDueDate().isEmpty()) {
                 try {
@@ -123,15 +233,26 @@ public class SummaryService {
                     .meeting(meeting)
                     .description(action.getDescription())
                     .assignee(action.getAssignee())
+                    .assigneePerson(assignee)
                     .dueDate(dueDate)
                     .status("NOT_STARTED")
                     .priority(action.getPriority())
                     .build();
             actionEntities.add(actionItem);
+            openActions.add(actionItem);
         }
 
-        actionItemRepository.saveAll(actionEntities);
-        log.debug("Stored {} action items for meeting {}", actionEntities.size(), meeting.getId());
+        if (!actionEntities.isEmpty()) {
+            actionItemRepository.saveAll(actionEntities);
+            eventPublisher.publishEvent(new ActionItemsChangedEvent(
+                    actionEntities.stream().map(ActionItem::getId).toList(), true));
+        }
+        if (!mentions.isEmpty()) {
+            actionItemMentionRepository.insertAll(meeting.getId(), mentions);
+        }
+        log.debug("Stored {} action items and {} mentions of open actions for meeting {}",
+                actionEntities.size(), mentions.size(), meeting.getId());
+        return actionEntities;
     }
 
     /**
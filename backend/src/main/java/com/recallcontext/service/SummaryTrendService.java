@@ -0,0 +1,137 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.InvalidQueryParameterException;
+import com.recallcontext.model.dto.SentimentTrendResponse;
+import com.recallcontext.model.entity.Summary;
+import com.recallcontext.model.entity.Tenant;
+import com.recallcontext.repository.SummaryTrendRepository;
+import com.recallcontext.repository.TenantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Sentiment and tone trends served from pre-aggregated weekly and monthly rollups.
+ * Rollups are adjusted in the transaction that stores or discards a summary, and can be rebuilt
+ * from the summaries if they drift.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SummaryTrendService {
+
+    enum Granularity { WEEK, MONTH }
+
+    enum Dimension { MEETING_TYPE, SERIES }
+
+    enum Metric { SENTIMENT, TONE }
+
+    private final SummaryTrendRepository summaryTrendRepository;
+    private final TenantRepository tenantRepository;
+
+    /**
+     * Count a newly stored summary; must run in the transaction that stores it
+     */
+    public void recordSummary(Summary summary) {
+        summaryTrendRepository.apply(summary.getMeeting().getId(), summary.getSentiment(), summary.getTone(), 1);
+    }
+
+    /**
+     * Uncount a summary that is about to be deleted
+     */
+    public void retractSummary(Summary summary) {
+        summaryTrendRepository.apply(summary.getMeeting().getId(), summary.getSentiment(), summary.getTone(), -1);
+    }
+
+    /**
+     * Trend of one metric per meeting type or series. Defaults to the last year of buckets.
+     */
+    public SentimentTrendResponse getTrends(String granularity, String dimension, String value, String metric,
+                                            LocalDate from, LocalDate to) {
+        Granularity parsedGranularity = parse(Granularity.class, "granularity", granularity);
+        Dimension parsedDimension = parse(Dimension.class, "dimension", dimension);
+        Metric parsedMetric = parse(Metric.class, "metric", metric);
+
+        LocalDate end = bucketStart(parsedGranularity, to != null ? to : LocalDate.now());
+        LocalDate start = bucketStart(parsedGranularity, from != null ? from : end.minusYears(1).plusDays(1));
+        if (start.isAfter(end)) {
+            throw new InvalidQueryParameterException("from must not be after to");
+        }
+
+        Map<String, Map<LocalDate, SentimentTrendResponse.TrendBucket>> groups = new LinkedHashMap<>();
+        for (SummaryTrendRepository.TrendRow row : summaryTrendRepository.find(TenantContext.getTenantId(),
+                parsedGranularity.name(), parsedDimension.name(), value, parsedMetric.name(), start, end)) {
+            SentimentTrendResponse.TrendBucket bucket = groups
+                    .computeIfAbsent(row.dimensionValue(), key -> new LinkedHashMap<>())
+                    .computeIfAbsent(row.bucketStart(), bucketStart -> SentimentTrendResponse.TrendBucket.builder()
+                            .bucketStart(bucketStart)
+                            .counts(new LinkedHashMap<>())
+                            .build());
+            bucket.getCounts().put(row.metricValue(), row.meetingCount());
+            bucket.setTotal(bucket.getTotal() + row.meetingCount());
+        }
+
+        List<SentimentTrendResponse.TrendGroup> trendGroups = new ArrayList<>();
+        groups.forEach((groupValue, buckets) -> trendGroups.add(SentimentTrendResponse.TrendGroup.builder()
+                .value(groupValue)
+                .buckets(new ArrayList<>(buckets.values()))
+                .build()));
+
+        return SentimentTrendResponse.builder()
+                .granularity(parsedGranularity.name())
+                .dimension(parsedDimension.name())
+                .metric(parsedMetric.name())
+                .from(start)
+                .to(end)
+                .groups(trendGroups)
+                .build();
+    }
+
+    /**
+     * Rebuild the current tenant's rollups from its summaries
+     */
+    public int rebuildCurrentTenant() {
+        return rebuild(TenantContext.getTenantId());
+    }
+
+    /**
+     * Scheduled rebuild of every tenant's rollups, correcting any drift
+     */
+    @Scheduled(cron = "${analytics.trends.rebuild-cron}")
+    public void rebuildAll() {
+        for (Tenant tenant : tenantRepository.findAll()) {
+            rebuild(tenant.getId());
+        }
+    }
+
+    private int rebuild(Long tenantId) {
+        int rows = summaryTrendRepository.rebuild(tenantId);
+        log.info("Rebuilt {} sentiment trend rollup rows for tenant {}", rows, tenantId);
+        return rows;
+    }
+
+    private static LocalDate bucketStart(Granularity granularity, LocalDate date) {
+        return granularity == Granularity.WEEK
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String parameter, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidQueryParameterException("Unknown " + parameter + " '" + value + "'");
+        }
+    }
+}
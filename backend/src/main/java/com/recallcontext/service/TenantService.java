@@ -0,0 +1,127 @@
+package com.recallcontext.service;
+
+import com.recallcontext.exception.TenantAlreadyExistsException;
+import com.recallcontext.exception.TenantNotFoundException;
+import com.recallcontext.model.dto.TenantRequest;
+import com.recallcontext.model.dto.TenantResponse;
+import com.recallcontext.model.dto.TenantUpdateRequest;
+import com.recallcontext.model.entity.Tenant;
+import com.recallcontext.repository.TenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@Slf4j
+public class TenantService {
+
+    private final TenantRepository tenantRepository;
+    private final long cacheTtlNanos;
+
+    // Tenants are resolved on every request, so keep them in memory; entries expire so that updates
+    // made through another instance are picked up within the TTL
+    private final Map<String, CachedTenant> tenantsByKey = new ConcurrentHashMap<>();
+
+    public TenantService(TenantRepository tenantRepository, @Value("${tenants.cache-ttl}") Duration cacheTtl) {
+        this.tenantRepository = tenantRepository;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+    }
+
+    /**
+     * Resolve a tenant by key
+     */
+    public Tenant resolve(String tenantKey) {
+        CachedTenant cached = tenantsByKey.get(tenantKey);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.loadedAt() < cacheTtlNanos) {
+            return cached.tenant();
+        }
+
+        Tenant tenant = tenantRepository.findByTenantKey(tenantKey)
+                .orElseThrow(() -> new TenantNotFoundException("Tenant not found: " + tenantKey));
+        tenantsByKey.put(tenantKey, new CachedTenant(tenant, now));
+        return tenant;
+    }
+
+    /**
+     * Get all tenants
+     */
+    public List<TenantResponse> getAllTenants() {
+        return tenantRepository.findAll().stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    /**
+     * Create a tenant
+     */
+    @Transactional
+    public TenantResponse createTenant(TenantRequest request) {
+        log.info("Creating tenant {}", request.getTenantKey());
+
+        if (tenantRepository.findByTenantKey(request.getTenantKey()).isPresent()) {
+            throw new TenantAlreadyExistsException("Tenant already exists: " + request.getTenantKey());
+        }
+
+        Tenant tenant = Tenant.builder()
+                .tenantKey(request.getTenantKey())
+                .name(request.getName())
+                .schedulingWeight(request.getSchedulingWeight())
+                .maxConcurrentAnalyses(request.getMaxConcurrentAnalyses())
+                .build();
+
+        try {
+            // Flush so a concurrent create with the same key fails here rather than at commit
+            tenant = tenantRepository.saveAndFlush(tenant);
+        } catch (DataIntegrityViolationException e) {
+            throw new TenantAlreadyExistsException("Tenant already exists: " + request.getTenantKey());
+        }
+        return convertToResponse(tenant);
+    }
+
+    /**
+     * Update a tenant's name and scheduling share
+     */
+    @Transactional
+    public TenantResponse updateTenant(String tenantKey, TenantUpdateRequest request) {
+        log.info("Updating tenant {}", tenantKey);
+
+        Tenant tenant = tenantRepository.findByTenantKey(tenantKey)
+                .orElseThrow(() -> new TenantNotFoundException("Tenant not found: " + tenantKey));
+
+        if (request.getName() != null) {
+            tenant.setName(request.getName());
+        }
+        if (request.getSchedulingWeight() != null) {
+            tenant.setSchedulingWeight(request.getSchedulingWeight());
+        }
+        if (request.getMaxConcurrentAnalyses() != null) {
+            tenant.setMaxConcurrentAnalyses(request.getMaxConcurrentAnalyses());
+        }
+
+        tenant = tenantRepository.save(tenant);
+        tenantsByKey.remove(tenantKey);
+        return convertToResponse(tenant);
+    }
+
+    private TenantResponse convertToResponse(Tenant tenant) {
+        return TenantResponse.builder()
+                .id(tenant.getId())
+                .tenantKey(tenant.getTenantKey())
+                .name(tenant.getName())
+                .schedulingWeight(tenant.getSchedulingWeight())
+                .maxConcurrentAnalyses(tenant.getMaxConcurrentAnalyses())
+                .createdAt(tenant.getCreatedAt())
+                .build();
+    }
+
+    private record CachedTenant(Tenant tenant, long loadedAt) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.recallcontext.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Streams the file entries of a zip, tar or gzip-compressed tar archive one at a time,
+ * without extracting the archive to memory or disk
+ */
+@Service
+@Slf4j
+public class TranscriptArchiveReader {
+
+    private static final int TAR_BLOCK_SIZE = 512;
+
+    /**
+     * Receives each file entry; the stream is only valid for the duration of the call
+     */
+    @FunctionalInterface
+    public interface EntryHandler {
+        void handle(String filename, InputStream content) throws IOException;
+    }
+
+    /**
+     * Read an archive, detecting the format from its leading bytes
+     */
+    public void read(InputStream archive, EntryHandler handler) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(archive, 64 * 1024);
+
+        in.mark(4);
+        int b0 = in.read();
+        int b1 = in.read();
+        in.reset();
+
+        if (b0 == 'P' && b1 == 'K') {
+            readZip(in, handler);
+        } else if (b0 == 0x1f && b1 == 0x8b) {
+            readTar(new BufferedInputStream(new GZIPInputStream(in, 64 * 1024)), handler);
+        } else {
+            readTar(in, handler);
+        }
+    }
+
+    private void readZip(InputStream in, EntryHandler handler) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in, StandardCharsets.UTF_8);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (!entry.isDirectory()) {
+                dispatch(entry.getName(), new NonClosingInputStream(zip), handler);
+            }
+            zip.closeEntry();
+        }
+    }
+
+    /**
+     * Minimal ustar/GNU tar reader: regular files only, long names and extended headers are skipped
+     */
+    private void readTar(InputStream in, EntryHandler handler) throws IOException {
+        byte[] header = new byte[TAR_BLOCK_SIZE];
+
+        while (readFully(in, header)) {
+            if (isZeroBlock(header)) {
+                return; // end-of-archive marker
+            }
+
+            String name = cString(header, 0, 100);
+            long size = parseOctal(header, 124, 12);
+            byte type = header[156];
+            String prefix = cString(header, 345, 155);
+            if (!prefix.isEmpty()) {
+                name = prefix + "/" + name;
+            }
+
+            BoundedInputStream content = new BoundedInputStream(in, size);
+            if (type == '0' || type == 0) {
+                dispatch(name, content, handler);
+            } else {
+                log.debug("Skipping tar entry {} of type {}", name, (char) type);
+            }
+            content.skipRemaining();
+
+            // Entries are padded to a whole number of blocks
+            long padding = (TAR_BLOCK_SIZE - (size % TAR_BLOCK_SIZE)) % TAR_BLOCK_SIZE;
+            in.skipNBytes(padding);
+        }
+    }
+
+    private void dispatch(String path, InputStream content, EntryHandler handler) throws IOException {
+        String filename = path.substring(path.lastIndexOf('/') + 1);
+        // Skip hidden files and resource forks added by archivers
+        if (filename.isEmpty() || filename.startsWith(".") || path.startsWith("__MACOSX/")) {
+            return;
+        }
+        handler.handle(filename, content);
+    }
+
+    private static boolean readFully(InputStream in, byte[] block) throws IOException {
+        int read = in.readNBytes(block, 0, block.length);
+        if (read == 0) {
+            return false;
+        }
+        if (read < block.length) {
+            throw new IOException("Truncated tar archive");
+        }
+        return true;
+    }
+
+    private static boolean isZeroBlock(byte[] block) {
+        for (byte b : block) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String cString(byte[] block, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && block[end] != 0) {
+            end++;
+        }
+        return new String(block, offset, end - offset, StandardCharsets.UTF_8);
+    }
+
+    private static long parseOctal(byte[] block, int offset, int length) throws IOException {
+        long value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            byte b = block[i];
+            if (b == 0 || b == ' ') {
+                if (value > 0) {
+                    break;
+                }
+                continue;
+            }
+            if (b < '0' || b > '7') {
+                throw new IOException("Invalid tar header");
+            }
+            value = (value << 3) + (b - '0');
+        }
+        return value;
+    }
+
+    /**
+     * View of the next {@code remaining} bytes of the archive stream
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long size) {
+            super(in);
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = in.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // The archive stream stays open for the next entry
+        }
+
+        void skipRemaining() throws IOException {
+            in.skipNBytes(remaining);
+            remaining = 0;
+        }
+    }
+
+    /**
+     * Shields the zip stream from handlers that close the entry stream
+     */
+    private static class NonClosingInputStream extends FilterInputStream {
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // The archive stream stays open for the next entry
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package com.recallcontext.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed transcript storage on the local filesystem, keyed by SHA-256 of the UTF-8 bytes.
+ * <p>
+ * New blobs land in the hot tier ({@code hot/ab/<hash>}) and are read through a memory mapping;
+ * {@link TranscriptBlobTieringService} later gzips old blobs into the cold tier ({@code cold/ab/<hash>.gz}).
+ * Identical transcripts share one blob. Writes are staged and renamed into place, so readers never
+ * see a partial blob. Blobs are compressed with the meeting type's dictionary when one has been trained
+ * and it makes them smaller (see {@link TranscriptCodec}).
+ */
+@Service
+@Slf4j
+public class TranscriptBlobStore {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ContentHashService contentHashService;
+    private final TranscriptCodec codec;
+    private final Path hotDirectory;
+    private final Path coldDirectory;
+    private final Path stagingDirectory;
+
+    public TranscriptBlobStore(
+            ContentHashService contentHashService,
+            TranscriptCodec codec,
+            @Value("${blobs.directory}") String directory
+    ) throws IOException {
+        this.contentHashService = contentHashService;
+        this.codec = codec;
+        Path root = Path.of(directory).toAbsolutePath();
+        this.hotDirectory = Files.createDirectories(root.resolve("hot"));
+        this.coldDirectory = Files.createDirectories(root.resolve("cold"));
+        this.stagingDirectory = Files.createDirectories(root.resolve("staging"));
+    }
+
+    /**
+     * Store a transcript without dictionary compression unless an identical one is already stored;
+     * returns its size in bytes
+     */
+    public long putText(String contentHash, String content) {
+        return putText(contentHash, content, null);
+    }
+
+    /**
+     * Store a transcript unless an identical one is already stored; returns its size in bytes
+     */
+    public long putText(String contentHash, String content, String meetingType) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (!contentHashService.sha256Hex(bytes).equals(contentHash)) {
+            throw new IllegalArgumentException("Content does not match hash " + contentHash);
+        }
+        if (touchIfPresent(contentHash)) {
+            return bytes.length;
+        }
+
+        try {
+            Path staged = Files.createTempFile(stagingDirectory, "blob-", ".tmp");
+            Files.write(staged, bytes);
+            publish(compressIfSmaller(staged, meetingType), hotPath(contentHash));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store transcript blob " + contentHash, e);
+        }
+        return bytes.length;
+    }
+
+    /**
+     * Store a transcript file (already hashed while spooling), moving it into the store.
+     * The caller's file is gone afterwards unless an identical blob was already stored.
+     */
+    public void putFile(String contentHash, Path file, String meetingType) {
+        if (touchIfPresent(contentHash)) {
+            return;
+        }
+
+        try {
+            Path staged = Files.createTempFile(stagingDirectory, "blob-", ".tmp");
+            Files.move(file, staged, StandardCopyOption.REPLACE_EXISTING);
+            publish(compressIfSmaller(staged, meetingType), hotPath(contentHash));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store transcript blob " + contentHash, e);
+        }
+    }
+
+    /**
+     * Read a transcript as text
+     */
+    public String read(String contentHash) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder().decode(readBytes(contentHash)).toString();
+        } catch (CharacterCodingException e) {
+            throw new UncheckedIOException("Transcript blob " + contentHash + " is not valid UTF-8", e);
+        }
+    }
+
+    /**
+     * Read a transcript as a resource for whole or byte-range responses
+     */
+    public Resource readResource(String contentHash) {
+        return new BlobResource(contentHash, readBytes(contentHash));
+    }
+
+    /**
+     * Read a transcript's UTF-8 bytes, from the hot tier if present and the cold tier otherwise.
+     * Plain hot blobs are returned as a read-only memory mapping without copying.
+     */
+    public ByteBuffer readBytes(String contentHash) {
+        try {
+            return codec.decodeBytes(mapHot(hotPath(contentHash)));
+        } catch (NoSuchFileException e) {
+            // Not stored hot, or moved to the cold tier since
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read transcript blob " + contentHash, e);
+        }
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(coldPath(contentHash)), BUFFER_SIZE)) {
+            return codec.decodeBytes(ByteBuffer.wrap(in.readAllBytes()));
+        } catch (NoSuchFileException e) {
+            throw new UncheckedIOException("Transcript blob " + contentHash + " is missing", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read transcript blob " + contentHash, e);
+        }
+    }
+
+    public boolean exists(String contentHash) {
+        return Files.exists(hotPath(contentHash)) || Files.exists(coldPath(contentHash));
+    }
+
+    /**
+     * Gzip a hot blob into the cold tier, then drop the hot copy. A reader racing the move
+     * always finds one of the two copies.
+     */
+    void moveToCold(String contentHash) throws IOException {
+        Path hot = hotPath(contentHash);
+        Path cold = coldPath(contentHash);
+
+        if (!Files.exists(cold)) {
+            Path staged = Files.createTempFile(stagingDirectory, "blob-", ".gz.tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(staged), BUFFER_SIZE)) {
+                Files.copy(hot, out);
+            } catch (IOException e) {
+                Files.deleteIfExists(staged);
+                throw e;
+            }
+            publish(staged, cold);
+        }
+        Files.deleteIfExists(hot);
+    }
+
+    void delete(String contentHash) throws IOException {
+        Files.deleteIfExists(hotPath(contentHash));
+        Files.deleteIfExists(coldPath(contentHash));
+    }
+
+    /**
+     * Delete a blob unless either copy was modified after the cutoff, e.g. touched by an upload
+     * deduplicated against it since it was found unreferenced. False if it was kept.
+     */
+    boolean deleteIfUntouchedSince(String contentHash, Instant cutoff) throws IOException {
+        for (Path path : new Path[]{hotPath(contentHash), coldPath(contentHash)}) {
+            try {
+                if (Files.getLastModifiedTime(path).toInstant().isAfter(cutoff)) {
+                    return false;
+                }
+            } catch (NoSuchFileException e) {
+                // Not in this tier
+            }
+        }
+        delete(contentHash);
+        return true;
+    }
+
+    Path getHotDirectory() {
+        return hotDirectory;
+    }
+
+    Path getColdDirectory() {
+        return coldDirectory;
+    }
+
+    /**
+     * Hash a blob file name belongs to, or null for files that are not blobs
+     */
+    static String hashOf(Path file) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - ".gz".length());
+        }
+        return SHA256_HEX.matcher(name).matches() ? name : null;
+    }
+
+    /**
+     * Refresh the modification time of an existing blob, so a blob just deduplicated against
+     * is neither collected as an orphan nor tiered as if it were old
+     */
+    private boolean touchIfPresent(String contentHash) {
+        FileTime now = FileTime.fromMillis(System.currentTimeMillis());
+        for (Path path : new Path[]{hotPath(contentHash), coldPath(contentHash)}) {
+            try {
+                Files.setLastModifiedTime(path, now);
+                return true;
+            } catch (NoSuchFileException e) {
+                // Try the next tier
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to touch transcript blob " + contentHash, e);
+            }
+        }
+        return false;
+    }
+
+    private void publish(Path staged, Path target) throws IOException {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+    }
+
+    private MappedByteBuffer mapHot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed, and after the file is tiered away
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Dictionary-compress a staged raw blob, keeping whichever of the two files is smaller
+     */
+    private Path compressIfSmaller(Path staged, String meetingType) throws IOException {
+        if (meetingType == null) {
+            return staged;
+        }
+
+        Path compressed = Files.createTempFile(stagingDirectory, "blob-", ".dz.tmp");
+        boolean encoded;
+        try (FileChannel in = FileChannel.open(staged, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(compressed, StandardOpenOption.WRITE)) {
+            encoded = codec.encode(in.map(FileChannel.MapMode.READ_ONLY, 0, in.size()), meetingType, out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(compressed);
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+
+        if (encoded && Files.size(compressed) < Files.size(staged)) {
+            Files.delete(staged);
+            return compressed;
+        }
+        Files.delete(compressed);
+        return staged;
+    }
+
+    private Path hotPath(String contentHash) {
+        return hotDirectory.resolve(shard(contentHash)).resolve(contentHash);
+    }
+
+    private Path coldPath(String contentHash) {
+        return coldDirectory.resolve(shard(contentHash)).resolve(contentHash + ".gz");
+    }
+
+    private String shard(String contentHash) {
+        if (contentHash == null || !SHA256_HEX.matcher(contentHash).matches()) {
+            throw new IllegalArgumentException("Invalid transcript hash: " + contentHash);
+        }
+        return contentHash.substring(0, 2);
+    }
+
+    /**
+     * Transcript bytes exposed as a Spring resource, with a cheap skip for range requests
+     */
+    private static class BlobResource extends AbstractResource {
+        private final String contentHash;
+        private final ByteBuffer bytes;
+
+        BlobResource(String contentHash, ByteBuffer bytes) {
+            this.contentHash = contentHash;
+            this.bytes = bytes;
+        }
+
+        @Override
+        public String getDescription() {
+            return "transcript blob " + contentHash;
+        }
+
+        @Override
+        public long contentLength() {
+            return bytes.remaining();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            ByteBuffer buffer = bytes.duplicate();
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] target, int offset, int length) {
+                    if (!buffer.hasRemaining()) {
+                        return -1;
+                    }
+                    int n = Math.min(length, buffer.remaining());
+                    buffer.get(target, offset, n);
+                    return n;
+                }
+
+                @Override
+                public long skip(long n) {
+                    int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+                    buffer.position(buffer.position() + skipped);
+                    return skipped;
+                }
+
+                @Override
+                public int available() {
+                    return buffer.remaining();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.recallcontext.service;
+
+import com.recallcontext.repository.MeetingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Moves old transcript blobs to the compressed cold tier and removes blobs no meeting references
+ */
+@Service
+@Slf4j
+public class TranscriptBlobTieringService {
+
+    private static final int REFERENCE_BATCH_SIZE = 1000;
+
+    private final TranscriptBlobStore blobStore;
+    private final MeetingRepository meetingRepository;
+    private final Duration coldAfter;
+    private final Duration orphanGrace;
+
+    public TranscriptBlobTieringService(
+            TranscriptBlobStore blobStore,
+            MeetingRepository meetingRepository,
+            @Value("${blobs.cold-after}") Duration coldAfter,
+            @Value("${blobs.orphan-grace}") Duration orphanGrace
+    ) {
+        this.blobStore = blobStore;
+        this.meetingRepository = meetingRepository;
+        this.coldAfter = coldAfter;
+        this.orphanGrace = orphanGrace;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${blobs.tier-interval}",
+            initialDelayString = "${blobs.tier-interval}"
+    )
+    public void sweep() {
+        Instant now = Instant.now();
+        Instant orphanCutoff = now.minus(orphanGrace);
+        int moved = 0;
+        int deleted = 0;
+
+        List<Path> hotFiles = list(blobStore.getHotDirectory());
+        Set<String> orphans = findOrphans(hotFiles, now);
+        for (Path file : hotFiles) {
+            String hash = TranscriptBlobStore.hashOf(file);
+            Duration age = ageOf(file, now);
+            if (hash == null || age == null) {
+                continue;
+            }
+
+            try {
+                if (orphans.contains(hash)) {
+                    if (blobStore.deleteIfUntouchedSince(hash, orphanCutoff)) {
+                        deleted++;
+                    }
+                } else if (age.compareTo(coldAfter) > 0) {
+                    blobStore.moveToCold(hash);
+                    moved++;
+                }
+            } catch (IOException e) {
+                log.error("Failed to tier transcript blob {}", hash, e);
+            }
+        }
+
+        List<Path> coldFiles = list(blobStore.getColdDirectory());
+        orphans = findOrphans(coldFiles, now);
+        for (Path file : coldFiles) {
+            String hash = TranscriptBlobStore.hashOf(file);
+            if (hash == null || !orphans.contains(hash)) {
+                continue;
+            }
+
+            try {
+                if (blobStore.deleteIfUntouchedSince(hash, orphanCutoff)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.error("Failed to delete orphaned transcript blob {}", hash, e);
+            }
+        }
+
+        if (moved > 0 || deleted > 0) {
+            log.info("Transcript blob sweep moved {} blobs to the cold tier and deleted {} orphans", moved, deleted);
+        }
+    }
+
+    /**
+     * Hashes of the blobs that are unreferenced, and old enough that no upload can still be about to
+     * reference them, checking references a batch of hashes per query
+     */
+    private Set<String> findOrphans(List<Path> files, Instant now) {
+        List<String> candidates = new ArrayList<>();
+        for (Path file : files) {
+            String hash = TranscriptBlobStore.hashOf(file);
+            Duration age = ageOf(file, now);
+            if (hash != null && age != null && age.compareTo(orphanGrace) > 0) {
+                candidates.add(hash);
+            }
+        }
+
+        Set<String> orphans = new HashSet<>(candidates);
+        for (int from = 0; from < candidates.size(); from += REFERENCE_BATCH_SIZE) {
+            List<String> batch = candidates.subList(from, Math.min(from + REFERENCE_BATCH_SIZE, candidates.size()));
+            meetingRepository.findReferencedContentHashes(batch).forEach(orphans::remove);
+        }
+        return orphans;
+    }
+
+    private List<Path> list(Path tierDirectory) {
+        try (Stream<Path> files = Files.walk(tierDirectory, 2)) {
+            return files.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            log.error("Failed to list transcript blobs in {}", tierDirectory, e);
+            return List.of();
+        }
+    }
+
+    private Duration ageOf(Path file, Instant now) {
+        try {
+            return Duration.between(Files.getLastModifiedTime(file).toInstant(), now);
+        } catch (IOException e) {
+            return null; // moved or deleted meanwhile
+        }
+    }
+}
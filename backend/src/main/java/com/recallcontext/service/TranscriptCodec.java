@@ -0,0 +1,210 @@
+package com.recallcontext.service;
+
+import com.recallcontext.repository.TranscriptDictionaryRepository;
+import com.recallcontext.repository.TranscriptDictionaryRepository.StoredDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stored transcript encoding: plain UTF-8, or deflate with a preset dictionary trained for the meeting type.
+ * <p>
+ * Encoded blobs start with a header that names the dictionary, so a blob decodes the same way whichever
+ * meeting references it and after newer dictionary versions are trained. The header starts with 0xFF,
+ * which never occurs in UTF-8, so plain blobs need no header.
+ */
+@Service
+@Slf4j
+public class TranscriptCodec {
+
+    private static final byte[] MAGIC = {(byte) 0xFF, 'R', 'C', 'D'};
+    private static final byte FORMAT_VERSION = 1;
+    // magic, format version, dictionary id, decoded length
+    private static final int HEADER_SIZE = MAGIC.length + 1 + Long.BYTES + Long.BYTES;
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    // New dictionaries may be trained by another instance
+    private static final Duration LATEST_TTL = Duration.ofMinutes(5);
+
+    private final TranscriptDictionaryRepository dictionaryRepository;
+
+    // Dictionary versions are immutable, so they are cached indefinitely
+    private final Map<Long, byte[]> dictionariesById = new ConcurrentHashMap<>();
+    private final Map<String, LatestDictionary> latestByType = new ConcurrentHashMap<>();
+
+    public TranscriptCodec(TranscriptDictionaryRepository dictionaryRepository) {
+        this.dictionaryRepository = dictionaryRepository;
+    }
+
+    /**
+     * Deflate raw UTF-8 bytes with the meeting type's latest dictionary into the channel.
+     * Returns false, writing nothing, when the meeting type has no dictionary.
+     */
+    public boolean encode(ByteBuffer raw, String meetingType, WritableByteChannel out) throws IOException {
+        Optional<StoredDictionary> dictionary = latestDictionary(meetingType);
+        if (dictionary.isEmpty()) {
+            return false;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .put(MAGIC)
+                .put(FORMAT_VERSION)
+                .putLong(dictionary.get().id())
+                .putLong(raw.remaining())
+                .flip();
+        writeFully(out, header);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setDictionary(dictionary.get().dictionary());
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+            while (!deflater.finished()) {
+                deflater.deflate(chunk);
+                writeFully(out, chunk.flip());
+                chunk.clear();
+            }
+        } finally {
+            deflater.end();
+        }
+        return true;
+    }
+
+    /**
+     * Deflate an in-memory sample with a given dictionary (or none), for training and benchmarks
+     */
+    byte[] encodeWith(byte[] raw, byte[] dictionary) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(raw);
+            deflater.finish();
+
+            byte[] buffer = new byte[raw.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decode a stored blob to its raw UTF-8 bytes
+     */
+    public ByteBuffer decodeBytes(ByteBuffer stored) {
+        if (!isEncoded(stored)) {
+            return stored;
+        }
+
+        ByteBuffer header = stored.duplicate();
+        header.position(header.position() + MAGIC.length);
+        byte format = header.get();
+        if (format != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported transcript encoding version " + format);
+        }
+        long dictionaryId = header.getLong();
+        long length = header.getLong();
+        return ByteBuffer.wrap(inflate(header, dictionary(dictionaryId), Math.toIntExact(length)));
+    }
+
+    /**
+     * Inflate a bare deflate stream (no header) produced by {@link #encodeWith}
+     */
+    byte[] decodeWith(byte[] encoded, byte[] dictionary, int length) {
+        return inflate(ByteBuffer.wrap(encoded), dictionary, length);
+    }
+
+    public boolean isEncoded(ByteBuffer stored) {
+        if (stored.remaining() < HEADER_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (stored.get(stored.position() + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forget the cached latest dictionary of a meeting type after a new version is trained
+     */
+    void evictLatest(String meetingType) {
+        latestByType.remove(meetingType);
+    }
+
+    private byte[] inflate(ByteBuffer input, byte[] dictionary, int length) {
+        byte[] output = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            int written = 0;
+            while (!inflater.finished()) {
+                int n = inflater.inflate(output, written, output.length - written);
+                if (n == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(dictionary);
+                } else if (n == 0 && (inflater.needsInput() || written == output.length)) {
+                    throw new IllegalStateException("Truncated or corrupt transcript blob");
+                }
+                written += n;
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt transcript blob", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Optional<StoredDictionary> latestDictionary(String meetingType) {
+        if (meetingType == null) {
+            return Optional.empty();
+        }
+
+        LatestDictionary cached = latestByType.get(meetingType);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() < LATEST_TTL.toNanos()) {
+            return cached.dictionary();
+        }
+
+        Optional<StoredDictionary> latest = dictionaryRepository.findLatest(meetingType);
+        latest.ifPresent(d -> dictionariesById.putIfAbsent(d.id(), d.dictionary()));
+        latestByType.put(meetingType, new LatestDictionary(latest, System.nanoTime()));
+        return latest;
+    }
+
+    private byte[] dictionary(long id) {
+        return dictionariesById.computeIfAbsent(id, key -> dictionaryRepository.findById(key)
+                .map(StoredDictionary::dictionary)
+                .orElseThrow(() -> new IllegalStateException("Transcript dictionary " + key + " is missing")));
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private record LatestDictionary(Optional<StoredDictionary> dictionary, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,284 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.exception.OperationNotPermittedException;
+import com.recallcontext.exception.TranscriptDictionaryException;
+import com.recallcontext.model.dto.CompressionBenchmarkResponse;
+import com.recallcontext.model.dto.TranscriptDictionaryResponse;
+import com.recallcontext.model.entity.Meeting;
+import com.recallcontext.repository.MeetingRepository;
+import com.recallcontext.repository.TranscriptDictionaryRepository;
+import com.recallcontext.repository.TranscriptDictionaryRepository.StoredDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trains per-meeting-type compression dictionaries from recent transcripts and benchmarks them against TOAST.
+ * <p>
+ * Dictionaries are shared by all tenants, like the content-addressed blob store that uses them, and are
+ * trained from the recent transcripts of every tenant. Their bytes never leave the server (responses carry
+ * only sizes and counts), and training and benchmarking, which read other tenants' transcripts, may only
+ * be run by requests explicitly naming the configured admin tenant.
+ */
+@Service
+@Slf4j
+public class TranscriptDictionaryService {
+
+    // Segments longer than this are unlikely to repeat verbatim across meetings
+    private static final int MAX_SEGMENT_LENGTH = 256;
+    private static final int PHRASE_WORDS = 4;
+    private static final int MAX_SPEAKER_LABEL_LENGTH = 40;
+    private static final int BENCHMARK_ITERATIONS = 3;
+
+    private final TranscriptDictionaryRepository dictionaryRepository;
+    private final MeetingRepository meetingRepository;
+    private final TranscriptBlobStore blobStore;
+    private final TranscriptCodec codec;
+    private final int trainingSamples;
+    private final int minSamples;
+    private final int maxDictionaryBytes;
+    private final String adminTenantKey;
+
+    public TranscriptDictionaryService(
+            TranscriptDictionaryRepository dictionaryRepository,
+            MeetingRepository meetingRepository,
+            TranscriptBlobStore blobStore,
+            TranscriptCodec codec,
+            @Value("${blobs.dictionary.training-samples}") int trainingSamples,
+            @Value("${blobs.dictionary.min-samples}") int minSamples,
+            @Value("${blobs.dictionary.max-bytes}") int maxDictionaryBytes,
+            @Value("${blobs.dictionary.admin-tenant}") String adminTenantKey
+    ) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.meetingRepository = meetingRepository;
+        this.blobStore = blobStore;
+        this.codec = codec;
+        this.trainingSamples = trainingSamples;
+        this.minSamples = minSamples;
+        // Deflate only looks back 32 KiB, so a larger dictionary is never used
+        this.maxDictionaryBytes = Math.min(maxDictionaryBytes, 32 * 1024);
+        this.adminTenantKey = adminTenantKey;
+    }
+
+    /**
+     * Latest dictionary of every meeting type
+     */
+    public List<TranscriptDictionaryResponse> getDictionaries() {
+        return dictionaryRepository.findAllLatest().stream()
+                .map(dictionary -> convertToResponse(dictionary).build())
+                .toList();
+    }
+
+    /**
+     * Train a new dictionary version for a meeting type from its most recent transcripts.
+     * New transcripts of that type are compressed with it; existing blobs keep their dictionary.
+     */
+    public TranscriptDictionaryResponse train(String meetingType) {
+        requireAdminTenant();
+        List<byte[]> samples = loadSamples(meetingType, trainingSamples);
+        if (samples.size() < minSamples) {
+            throw new TranscriptDictionaryException(String.format(
+                    "Need at least %d %s transcripts to train a dictionary, found %d",
+                    minSamples, meetingType, samples.size()));
+        }
+
+        byte[] dictionary = buildDictionary(samples);
+        StoredDictionary stored = dictionaryRepository.insertNextVersion(meetingType, dictionary, samples.size());
+        codec.evictLatest(meetingType);
+
+        long rawBytes = 0;
+        long compressedBytes = 0;
+        for (byte[] sample : samples) {
+            rawBytes += sample.length;
+            compressedBytes += codec.encodeWith(sample, dictionary).length;
+        }
+        log.info("Trained {} dictionary v{} ({} bytes) from {} transcripts: {} -> {} bytes",
+                meetingType, stored.version(), dictionary.length, samples.size(), rawBytes, compressedBytes);
+
+        return convertToResponse(stored)
+                .sampleRawBytes(rawBytes)
+                .sampleCompressedBytes(compressedBytes)
+                .build();
+    }
+
+    /**
+     * Compare stored size and decode time of recent transcripts under Postgres TOAST, plain deflate
+     * and deflate with the meeting type's latest dictionary
+     */
+    public CompressionBenchmarkResponse benchmark(String meetingType, int sampleCount) {
+        requireAdminTenant();
+        StoredDictionary dictionary = dictionaryRepository.findLatest(meetingType)
+                .orElseThrow(() -> new TranscriptDictionaryException(
+                        "No dictionary has been trained for meeting type " + meetingType));
+        List<byte[]> samples = loadSamples(meetingType, sampleCount);
+        if (samples.isEmpty()) {
+            throw new TranscriptDictionaryException("No " + meetingType + " transcripts to benchmark");
+        }
+
+        long rawBytes = 0;
+        long deflateBytes = 0;
+        long dictionaryBytes = 0;
+        List<byte[]> encoded = new ArrayList<>(samples.size());
+        List<String> texts = new ArrayList<>(samples.size());
+        for (byte[] sample : samples) {
+            byte[] withDictionary = codec.encodeWith(sample, dictionary.dictionary());
+            encoded.add(withDictionary);
+            texts.add(new String(sample, StandardCharsets.UTF_8));
+
+            rawBytes += sample.length;
+            deflateBytes += codec.encodeWith(sample, null).length;
+            dictionaryBytes += withDictionary.length;
+        }
+
+        long bestDecodeNanos = Long.MAX_VALUE;
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            for (int j = 0; j < samples.size(); j++) {
+                codec.decodeWith(encoded.get(j), dictionary.dictionary(), samples.get(j).length);
+            }
+            bestDecodeNanos = Math.min(bestDecodeNanos, System.nanoTime() - start);
+        }
+
+        TranscriptDictionaryRepository.ToastMeasurement toast =
+                dictionaryRepository.measureToast(texts, BENCHMARK_ITERATIONS);
+
+        return CompressionBenchmarkResponse.builder()
+                .meetingType(meetingType)
+                .samples(samples.size())
+                .dictionaryVersion(dictionary.version())
+                .dictionarySizeBytes(dictionary.dictionary().length)
+                .rawBytes(rawBytes)
+                .toastBytes(toast.storedBytes())
+                .deflateBytes(deflateBytes)
+                .dictionaryBytes(dictionaryBytes)
+                .toastRatio(ratio(rawBytes, toast.storedBytes()))
+                .deflateRatio(ratio(rawBytes, deflateBytes))
+                .dictionaryRatio(ratio(rawBytes, dictionaryBytes))
+                .toastDecodeMillis(toast.decodeNanos() / 1_000_000.0)
+                .dictionaryDecodeMillis(bestDecodeNanos / 1_000_000.0)
+                .build();
+    }
+
+    private void requireAdminTenant() {
+        // Named explicitly, as requests without a tenant header fall back to the default tenant
+        if (!TenantContext.isNamedTenant(adminTenantKey)) {
+            throw new OperationNotPermittedException(
+                    "Only the " + adminTenantKey + " tenant can train or benchmark transcript dictionaries");
+        }
+    }
+
+    private List<byte[]> loadSamples(String meetingType, int limit) {
+        List<Meeting> meetings = meetingRepository.findByMeetingTypeOrderByCreatedAtDesc(
+                meetingType, PageRequest.of(0, Math.max(1, limit)));
+
+        List<byte[]> samples = new ArrayList<>(meetings.size());
+        Set<String> seen = new HashSet<>();
+        for (Meeting meeting : meetings) {
+            // Identical transcripts share a blob and would skew segment counts
+            if (seen.add(meeting.getContentHash())) {
+                samples.add(blobStore.read(meeting.getContentHash()).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return samples;
+    }
+
+    /**
+     * Pick the segments (whole lines, speaker labels and short phrases) that save the most bytes across
+     * the samples. Deflate finds nearer matches more cheaply, so the most valuable segments go last.
+     */
+    private byte[] buildDictionary(List<byte[]> samples) {
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (byte[] sample : samples) {
+            for (String segment : segmentsOf(new String(sample, StandardCharsets.UTF_8))) {
+                documentFrequency.merge(segment, 1, Integer::sum);
+            }
+        }
+
+        // Must recur across meetings to be worth a place in the dictionary
+        int minDocuments = Math.max(2, samples.size() / 10);
+        List<Map.Entry<String, Integer>> candidates = documentFrequency.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minDocuments)
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, Integer> entry) -> (long) entry.getValue() * byteLength(entry.getKey()))
+                        .reversed())
+                .toList();
+
+        List<String> selected = new ArrayList<>();
+        StringBuilder chosen = new StringBuilder();
+        int size = 0;
+        for (Map.Entry<String, Integer> candidate : candidates) {
+            String segment = candidate.getKey();
+            int length = byteLength(segment) + 1;
+            if (size + length > maxDictionaryBytes) {
+                continue;
+            }
+            // Already covered by a longer segment
+            if (chosen.indexOf(segment) >= 0) {
+                continue;
+            }
+            selected.add(segment);
+            chosen.append(segment).append('\n');
+            size += length;
+        }
+
+        StringBuilder dictionary = new StringBuilder(size);
+        for (int i = selected.size() - 1; i >= 0; i--) {
+            dictionary.append(selected.get(i)).append('\n');
+        }
+        return dictionary.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Distinct candidate segments of one transcript
+     */
+    private Set<String> segmentsOf(String transcript) {
+        Set<String> segments = new HashSet<>();
+        for (String rawLine : transcript.split("\\R")) {
+            String line = rawLine.strip();
+            if (line.isEmpty() || line.length() > MAX_SEGMENT_LENGTH) {
+                continue;
+            }
+            segments.add(line);
+
+            int colon = line.indexOf(": ");
+            if (colon > 0 && colon < MAX_SPEAKER_LABEL_LENGTH) {
+                segments.add(line.substring(0, colon + 2));
+            }
+
+            String[] words = line.split("\\s+");
+            for (int i = 0; i + PHRASE_WORDS <= words.length; i++) {
+                segments.add(String.join(" ", Arrays.asList(words).subList(i, i + PHRASE_WORDS)));
+            }
+        }
+        return segments;
+    }
+
+    private static int byteLength(String segment) {
+        return segment.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static double ratio(long rawBytes, long storedBytes) {
+        return storedBytes == 0 ? 0 : Math.round(rawBytes * 100.0 / storedBytes) / 100.0;
+    }
+
+    private TranscriptDictionaryResponse.TranscriptDictionaryResponseBuilder convertToResponse(StoredDictionary dictionary) {
+        return TranscriptDictionaryResponse.builder()
+                .meetingType(dictionary.meetingType())
+                .version(dictionary.version())
+                .sizeBytes(dictionary.dictionary().length)
+                .sampleCount(dictionary.sampleCount())
+                .createdAt(dictionary.createdAt());
+    }
+}
@@ -0,0 +1,159 @@
+package com.recallcontext.service;
+
+import com.recallcontext.exception.InvalidTranscriptException;
+import com.recallcontext.exception.TranscriptTooLargeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streams upload bodies to temp files so heap use per upload is a fixed-size buffer,
+ * hashing the decompressed bytes on the way through
+ */
+@Service
+@Slf4j
+public class TranscriptSpoolService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ContentHashService contentHashService;
+    private final Path spoolDirectory;
+    private final long maxBytes;
+
+    public TranscriptSpoolService(
+            ContentHashService contentHashService,
+            @Value("${uploads.spool.directory}") String spoolDirectory,
+            @Value("${uploads.spool.max-bytes}") long maxBytes
+    ) throws IOException {
+        this.contentHashService = contentHashService;
+        this.spoolDirectory = Files.createDirectories(Path.of(spoolDirectory));
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Spool a (optionally gzip-compressed) transcript body to a temp file
+     */
+    public SpooledTranscript spool(InputStream body, boolean gzip) throws IOException {
+        Path file = Files.createTempFile(spoolDirectory, "transcript-", ".txt");
+        MessageDigest digest = contentHashService.newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long size = 0;
+
+        try (InputStream in = gzip ? new GZIPInputStream(body, BUFFER_SIZE) : body;
+             ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(file, StandardOpenOption.WRITE)) {
+
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                size += buffer.remaining();
+                // Checked on decompressed bytes so a small gzip body cannot expand without bound
+                if (size > maxBytes) {
+                    throw new TranscriptTooLargeException(
+                            String.format("Transcript exceeds the maximum size of %d bytes", maxBytes));
+                }
+
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        if (size == 0) {
+            Files.deleteIfExists(file);
+            throw new InvalidTranscriptException("Content is required");
+        }
+
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+        log.debug("Spooled {} bytes to {} (sha256: {})", size, file, contentHash);
+        return new SpooledTranscript(file, size, contentHash);
+    }
+
+    /**
+     * Transcript spooled to disk; closing it deletes the file
+     */
+    public static class SpooledTranscript implements AutoCloseable {
+        private final Path file;
+        private final long sizeBytes;
+        private final String contentHash;
+
+        private SpooledTranscript(Path file, long sizeBytes, String contentHash) {
+            this.file = file;
+            this.sizeBytes = sizeBytes;
+            this.contentHash = contentHash;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        /**
+         * Check the spooled bytes are valid UTF-8, decoding through a fixed-size buffer
+         */
+        public void validateUtf8() {
+            CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+            CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                CoderResult result;
+                do {
+                    chars.clear();
+                    result = decoder.decode(bytes, chars, true);
+                    if (result.isError()) {
+                        throw new InvalidTranscriptException("Transcript is not valid UTF-8 text");
+                    }
+                } while (result.isOverflow());
+
+                do {
+                    chars.clear();
+                    result = decoder.flush(chars);
+                } while (result.isOverflow());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete spooled transcript {}", file, e);
+            }
+        }
+    }
+}
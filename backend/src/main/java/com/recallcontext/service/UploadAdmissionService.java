@@ -0,0 +1,175 @@
+package com.recallcontext.service;
+
+import com.recallcontext.exception.UploadCapacityExceededException;
+import com.recallcontext.model.dto.UploadCapacityResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for transcript uploads, by requests in flight and bytes queued, with a Retry-After
+ * hint from the smoothed upload duration. Archive imports have their own budget instead, charged per
+ * imported meeting until its analysis ends, since one import can queue thousands of analyses.
+ */
+@Service
+@Slf4j
+public class UploadAdmissionService {
+
+    // Weight of the latest request when smoothing the observed upload duration
+    private static final double DURATION_SMOOTHING = 0.2;
+
+    private final int maxInFlight;
+    private final long maxQueuedBytes;
+    private final long unknownLengthBytes;
+    private final long defaultRetryAfterSeconds;
+    private final int maxQueuedImports;
+    private final Semaphore importSlots;
+
+    private final AtomicLong acceptedTotal = new AtomicLong();
+    private final AtomicLong rejectedTotal = new AtomicLong();
+
+    private int inFlight;
+    private long queuedBytes;
+    private double averageDurationMillis;
+
+    public UploadAdmissionService(
+            @Value("${uploads.admission.max-in-flight}") int maxInFlight,
+            @Value("${uploads.admission.max-queued-bytes}") long maxQueuedBytes,
+            @Value("${uploads.admission.unknown-length-bytes}") long unknownLengthBytes,
+            @Value("${uploads.admission.default-retry-after}") Duration defaultRetryAfter,
+            @Value("${uploads.admission.max-queued-imports}") int maxQueuedImports
+    ) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxQueuedBytes = Math.max(1, maxQueuedBytes);
+        this.unknownLengthBytes = unknownLengthBytes;
+        this.defaultRetryAfterSeconds = Math.max(1, defaultRetryAfter.toSeconds());
+        this.maxQueuedImports = Math.max(1, maxQueuedImports);
+        this.importSlots = new Semaphore(this.maxQueuedImports, true);
+    }
+
+    /**
+     * Admit an upload of the given size or reject it with a Retry-After hint
+     */
+    public Permit acquire(long contentLength) {
+        long bytes = contentLength >= 0 ? contentLength : unknownLengthBytes;
+
+        synchronized (this) {
+            // A single oversized upload is still admitted when nothing else is queued
+            boolean bytesAvailable = queuedBytes == 0 || queuedBytes + bytes <= maxQueuedBytes;
+            if (inFlight < maxInFlight && bytesAvailable) {
+                inFlight++;
+                queuedBytes += bytes;
+                acceptedTotal.incrementAndGet();
+                return new Permit(bytes, System.nanoTime());
+            }
+        }
+
+        rejectedTotal.incrementAndGet();
+        long retryAfter = retryAfterSeconds();
+        log.warn("Upload rejected: capacity exceeded (retry after {}s)", retryAfter);
+        throw new UploadCapacityExceededException(
+                "Upload capacity exceeded, please retry later", retryAfter);
+    }
+
+    /**
+     * Admit an archive import, or reject it with the default Retry-After while imported meetings
+     * already fill the import budget
+     */
+    public void admitImport() {
+        if (importSlots.availablePermits() > 0) {
+            acceptedTotal.incrementAndGet();
+            return;
+        }
+
+        rejectedTotal.incrementAndGet();
+        log.warn("Import rejected: {} imported meetings already awaiting analysis", maxQueuedImports);
+        throw new UploadCapacityExceededException(
+                "Import capacity exceeded, please retry later", defaultRetryAfterSeconds);
+    }
+
+    /**
+     * Most import slots a single acquisition may ask for
+     */
+    public int getMaxQueuedImports() {
+        return maxQueuedImports;
+    }
+
+    /**
+     * Reserve import slots for meetings about to be queued for analysis, waiting until earlier imported
+     * analyses free enough of them; release one per meeting once its analysis ends
+     */
+    public void acquireImportSlots(int meetings) throws InterruptedIOException {
+        try {
+            importSlots.acquire(meetings);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for import capacity");
+        }
+    }
+
+    public void releaseImportSlots(int meetings) {
+        importSlots.release(meetings);
+    }
+
+    /**
+     * Current limits and queue depth
+     */
+    public synchronized UploadCapacityResponse getCapacity() {
+        return UploadCapacityResponse.builder()
+                .maxInFlight(maxInFlight)
+                .inFlight(inFlight)
+                .maxQueuedBytes(maxQueuedBytes)
+                .queuedBytes(queuedBytes)
+                .maxQueuedImports(maxQueuedImports)
+                .queuedImports(maxQueuedImports - importSlots.availablePermits())
+                .acceptedTotal(acceptedTotal.get())
+                .rejectedTotal(rejectedTotal.get())
+                .retryAfterSeconds(retryAfterSeconds())
+                .build();
+    }
+
+    private synchronized void release(Permit permit, long durationMillis) {
+        inFlight--;
+        queuedBytes -= permit.bytes;
+        averageDurationMillis = averageDurationMillis == 0
+                ? durationMillis
+                : DURATION_SMOOTHING * durationMillis + (1 - DURATION_SMOOTHING) * averageDurationMillis;
+    }
+
+    /**
+     * Expected wait for a slot, based on the smoothed duration of recent uploads
+     */
+    private synchronized long retryAfterSeconds() {
+        if (averageDurationMillis == 0) {
+            return defaultRetryAfterSeconds;
+        }
+        return Math.max(1, (long) Math.ceil(averageDurationMillis / 1000.0));
+    }
+
+    /**
+     * Admission slot held for the lifetime of one upload
+     */
+    public class Permit implements AutoCloseable {
+        private final long bytes;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long bytes, long startNanos) {
+            this.bytes = bytes;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(this, (System.nanoTime() - startNanos) / 1_000_000);
+            }
+        }
+    }
+}
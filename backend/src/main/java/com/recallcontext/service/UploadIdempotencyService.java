@@ -0,0 +1,150 @@
+package com.recallcontext.service;
+
+import com.recallcontext.exception.IdempotencyConflictException;
+import com.recallcontext.exception.InvalidIdempotencyKeyException;
+import com.recallcontext.model.entity.Meeting;
+import com.recallcontext.model.entity.UploadIdempotencyKey;
+import com.recallcontext.repository.MeetingRepository;
+import com.recallcontext.repository.UploadIdempotencyKeyRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class UploadIdempotencyService {
+
+    // Fits upload_idempotency_keys.idempotency_key; visible ASCII only, e.g. a UUID
+    private static final Pattern VALID_KEY = Pattern.compile("[\\x21-\\x7E]{1,255}");
+
+    private final UploadIdempotencyKeyRepository keyRepository;
+    private final MeetingRepository meetingRepository;
+    private final Duration ttl;
+
+    public UploadIdempotencyService(
+            UploadIdempotencyKeyRepository keyRepository,
+            MeetingRepository meetingRepository,
+            @Value("${uploads.idempotency.ttl}") Duration ttl
+    ) {
+        this.keyRepository = keyRepository;
+        this.meetingRepository = meetingRepository;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Reject an Idempotency-Key header that is too long for storage or has characters outside visible ASCII.
+     * Absent or blank keys are allowed; uploads without a key are not deduplicated by key.
+     */
+    public static void validateKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return;
+        }
+        if (!VALID_KEY.matcher(idempotencyKey).matches()) {
+            throw new InvalidIdempotencyKeyException(
+                    "Idempotency-Key must be 1 to 255 visible ASCII characters without spaces");
+        }
+    }
+
+    /**
+     * Claim an idempotency key, or return the meeting created by an earlier request with the same key
+     */
+    public Claim claim(Long tenantId, String idempotencyKey, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+
+        Optional<UploadIdempotencyKey> existing = keyRepository.findByTenantIdAndIdempotencyKey(tenantId, idempotencyKey);
+        if (existing.isPresent()) {
+            UploadIdempotencyKey record = existing.get();
+            if (record.getExpiresAt().isAfter(now)) {
+                return replayOf(record, requestHash);
+            }
+            log.debug("Idempotency key {} expired, reclaiming", idempotencyKey);
+            keyRepository.delete(record);
+        }
+
+        try {
+            UploadIdempotencyKey record = keyRepository.saveAndFlush(UploadIdempotencyKey.builder()
+                    .tenantId(tenantId)
+                    .idempotencyKey(idempotencyKey)
+                    .requestHash(requestHash)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+            return new Claim(record, null);
+
+        } catch (DataIntegrityViolationException e) {
+            // Lost the race against a concurrent retry carrying the same key
+            UploadIdempotencyKey record = keyRepository.findByTenantIdAndIdempotencyKey(tenantId, idempotencyKey)
+                    .orElseThrow(() -> e);
+            return replayOf(record, requestHash);
+        }
+    }
+
+    /**
+     * Bind a claimed key to the meeting it created
+     */
+    public void attachMeeting(UploadIdempotencyKey claim, Long meetingId) {
+        keyRepository.attachMeeting(claim.getId(), meetingId);
+    }
+
+    /**
+     * Release a claimed key when the request failed before a meeting was created
+     */
+    public void release(UploadIdempotencyKey claim) {
+        keyRepository.deleteById(claim.getId());
+    }
+
+    /**
+     * Find a meeting uploaded within the TTL with the same filename and content
+     */
+    public Optional<Meeting> findRecentDuplicate(Long tenantId, String filename, String contentHash) {
+        List<Meeting> duplicates = meetingRepository.findRecentDuplicates(
+                tenantId, filename, contentHash, LocalDateTime.now().minus(ttl));
+        return duplicates.stream().findFirst();
+    }
+
+    /**
+     * Remove expired idempotency keys
+     */
+    @Scheduled(fixedDelayString = "${uploads.idempotency.purge-interval}")
+    public void purgeExpired() {
+        int deleted = keyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private Claim replayOf(UploadIdempotencyKey record, String requestHash) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException(
+                    "Idempotency-Key has already been used for a different upload");
+        }
+        if (record.getMeetingId() == null) {
+            throw new IdempotencyConflictException(
+                    "An upload with this Idempotency-Key is still in progress");
+        }
+        return new Claim(null, record.getMeetingId());
+    }
+
+    /**
+     * Result of claiming a key: either a fresh claim or the meeting of an earlier request
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Claim {
+        private UploadIdempotencyKey key;
+        private Long existingMeetingId;
+
+        public boolean isReplay() {
+            return existingMeetingId != null;
+        }
+    }
+}
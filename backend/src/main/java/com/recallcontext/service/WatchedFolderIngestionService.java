@@ -0,0 +1,256 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.TenantContext;
+import com.recallcontext.config.WatchedFolderProperties;
+import com.recallcontext.model.entity.Tenant;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingests transcripts dropped into watched directories through the regular upload pipeline.
+ * <p>
+ * Directory events come from {@link WatchService}; a file is only ingested once it has been
+ * quiet and unchanged in size for the debounce period, so partially written files are left alone.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "ingestion.watch", name = "enabled", havingValue = "true")
+public class WatchedFolderIngestionService {
+
+    private final WatchedFolderProperties properties;
+    private final MeetingService meetingService;
+    private final TenantService tenantService;
+
+    private final Map<Path, PendingFile> pending = new ConcurrentHashMap<>();
+    private final Set<Path> inProgress = ConcurrentHashMap.newKeySet();
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+
+    private WatchService watchService;
+    private Thread watcherThread;
+    private ScheduledExecutorService debounceExecutor;
+    private ExecutorService ingestExecutor;
+
+    public WatchedFolderIngestionService(WatchedFolderProperties properties, MeetingService meetingService,
+                                         TenantService tenantService) {
+        this.properties = properties;
+        this.meetingService = meetingService;
+        this.tenantService = tenantService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws IOException {
+        watchService = FileSystems.getDefault().newWatchService();
+
+        for (String directory : properties.getDirectories()) {
+            Path dir = Path.of(directory).toAbsolutePath();
+            Files.createDirectories(dir.resolve(properties.getProcessedDirectory()));
+            Files.createDirectories(dir.resolve(properties.getFailedDirectory()));
+
+            WatchKey key = dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            watchedDirectories.put(key, dir);
+
+            // Files dropped while the service was down
+            enqueueExisting(dir);
+            log.info("Watching {} for transcripts", dir);
+        }
+
+        ingestExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getWorkers()));
+        debounceExecutor = Executors.newSingleThreadScheduledExecutor();
+        long tickMillis = Math.max(100, properties.getDebounce().toMillis() / 2);
+        debounceExecutor.scheduleWithFixedDelay(this::dispatchSettledFiles, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+
+        watcherThread = new Thread(this::watchLoop, "transcript-folder-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (debounceExecutor != null) {
+            debounceExecutor.shutdownNow();
+        }
+        if (ingestExecutor != null) {
+            ingestExecutor.shutdown();
+        }
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Path dir = watchedDirectories.get(key);
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        log.warn("Watch events overflowed for {}, rescanning", dir);
+                        enqueueExisting(dir);
+                        continue;
+                    }
+                    Path file = dir.resolve((Path) event.context());
+                    if (isTranscript(file)) {
+                        touch(file);
+                    }
+                }
+
+                if (!key.reset()) {
+                    log.warn("Watched directory {} is no longer accessible", dir);
+                    watchedDirectories.remove(key);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Watch service closed");
+        }
+    }
+
+    private void enqueueExisting(Path dir) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.txt")) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file)) {
+                    touch(file);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to list {}", dir, e);
+        }
+    }
+
+    /**
+     * Record activity on a file, restarting its debounce window
+     */
+    private void touch(Path file) {
+        pending.put(file, new PendingFile(System.nanoTime(), sizeOf(file)));
+    }
+
+    /**
+     * Hand files that have been quiet for the debounce period to the ingest workers
+     */
+    private void dispatchSettledFiles() {
+        long debounceNanos = properties.getDebounce().toNanos();
+        long now = System.nanoTime();
+
+        pending.forEach((file, seen) -> {
+            if (now - seen.lastEventNanos() < debounceNanos || inProgress.contains(file)) {
+                return;
+            }
+            long size = sizeOf(file);
+            if (size < 0) {
+                pending.remove(file); // deleted or moved away
+                return;
+            }
+            if (size != seen.size()) {
+                // Still being written without generating events (e.g. network shares)
+                pending.put(file, new PendingFile(now, size));
+                return;
+            }
+
+            pending.remove(file);
+            inProgress.add(file);
+            ingestExecutor.submit(() -> {
+                try {
+                    ingest(file);
+                } finally {
+                    inProgress.remove(file);
+                }
+            });
+        });
+    }
+
+    private void ingest(Path file) {
+        String filename = file.getFileName().toString();
+        log.info("Ingesting {}", file);
+
+        Tenant tenant = tenantService.resolve(properties.getTenant());
+        TenantContext.set(tenant.getId(), tenant.getTenantKey(), properties.getUser());
+        try {
+            meetingService.uploadTranscript(filename, readTranscript(file));
+            moveTo(file, properties.getProcessedDirectory());
+        } catch (Exception e) {
+            log.error("Failed to ingest {}", file, e);
+            moveTo(file, properties.getFailedDirectory());
+            writeErrorNote(file, e);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    /**
+     * Read a transcript through a read-only memory mapping, decoding it as strict UTF-8
+     */
+    private String readTranscript(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return StandardCharsets.UTF_8.newDecoder().decode(mapped).toString();
+        } catch (CharacterCodingException e) {
+            throw new IOException("Transcript is not valid UTF-8 text", e);
+        }
+    }
+
+    private void moveTo(Path file, String subdirectory) {
+        Path target = file.resolveSibling(subdirectory).resolve(file.getFileName());
+        try {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("Failed to move {} to {}", file, target, e);
+        }
+    }
+
+    private void writeErrorNote(Path file, Exception error) {
+        Path note = file.resolveSibling(properties.getFailedDirectory()).resolve(file.getFileName() + ".error");
+        try {
+            Files.writeString(note, String.valueOf(error.getMessage()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("Failed to write error note for {}", file, e);
+        }
+    }
+
+    private static boolean isTranscript(Path file) {
+        return file.getFileName().toString().endsWith(".txt");
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private record PendingFile(long lastEventNanos, long size) {
+    }
+}
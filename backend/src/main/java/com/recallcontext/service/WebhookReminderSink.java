@@ -0,0 +1,44 @@
+package com.recallcontext.service;
+
+import com.recallcontext.config.ReminderProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * POSTs each reminder as JSON to {@code reminders.webhook-url}. Delivery is asynchronous and
+ * best effort: failures are logged, not retried.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "reminders", name = "webhook-url")
+public class WebhookReminderSink implements ReminderSink {
+
+    private final WebClient webClient;
+    private final ReminderProperties properties;
+
+    public WebhookReminderSink(ReminderProperties properties) {
+        this.properties = properties;
+        this.webClient = WebClient.builder()
+                .baseUrl(properties.getWebhookUrl())
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    @Override
+    public void send(Reminder reminder) {
+        webClient.post()
+                .bodyValue(reminder)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(properties.getWebhookTimeout())
+                .subscribe(
+                        response -> log.debug("Delivered reminder for action {}", reminder.actionId()),
+                        error -> log.warn("Failed to deliver reminder for action {} to webhook: {}",
+                                reminder.actionId(), error.getMessage())
+                );
+    }
+}
@@ -0,0 +1,13 @@
+-- Change feed outbox (GET /api/v1/changes); written in the same transaction as the change it describes
+CREATE TABLE change_events (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL REFERENCES tenants(id),
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_type VARCHAR(50) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_change_event_tenant_id ON change_events(tenant_id, id);
+CREATE INDEX idx_change_event_created_at ON change_events(created_at);
@@ -0,0 +1,10 @@
+-- Meetings that re-raised an existing open action instead of creating a near-duplicate
+CREATE TABLE action_item_mentions (
+    action_item_id BIGINT NOT NULL REFERENCES action_items(id) ON DELETE CASCADE,
+    meeting_id BIGINT NOT NULL REFERENCES meetings(id) ON DELETE CASCADE,
+    description TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (action_item_id, meeting_id)
+);
+
+CREATE INDEX idx_action_mention_meeting_id ON action_item_mentions(meeting_id);
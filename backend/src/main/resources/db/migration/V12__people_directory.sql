@@ -0,0 +1,61 @@
+-- People directory: one row per person per tenant, reached through normalized aliases
+CREATE TABLE people (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_id BIGINT NOT NULL REFERENCES tenants(id),
+    display_name VARCHAR(255) NOT NULL,
+    normalized_name VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_people_tenant_name UNIQUE (tenant_id, normalized_name)
+);
+
+-- First-name resolution looks people up by name prefix
+CREATE INDEX idx_people_tenant_name_prefix ON people(tenant_id, normalized_name varchar_pattern_ops);
+
+CREATE TABLE person_aliases (
+    id BIGSERIAL PRIMARY KEY,
+    person_id BIGINT NOT NULL REFERENCES people(id) ON DELETE CASCADE,
+    tenant_id BIGINT NOT NULL REFERENCES tenants(id),
+    alias VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_person_alias_tenant_alias UNIQUE (tenant_id, alias)
+);
+
+CREATE INDEX idx_person_alias_person_id ON person_aliases(person_id);
+
+ALTER TABLE participants ADD COLUMN person_id BIGINT REFERENCES people(id) ON DELETE SET NULL;
+ALTER TABLE action_items ADD COLUMN assignee_person_id BIGINT REFERENCES people(id) ON DELETE SET NULL;
+
+-- Backfill from existing names, normalized as in PersonDirectoryService (placeholders get no person)
+WITH names AS (
+    SELECT m.tenant_id, btrim(regexp_replace(p.name, '\s+', ' ', 'g')) AS name
+    FROM participants p JOIN meetings m ON m.id = p.meeting_id
+    UNION ALL
+    SELECT m.tenant_id, btrim(regexp_replace(a.assignee, '\s+', ' ', 'g'))
+    FROM action_items a JOIN meetings m ON m.id = a.meeting_id
+    WHERE a.assignee IS NOT NULL
+)
+INSERT INTO people (tenant_id, display_name, normalized_name)
+SELECT DISTINCT ON (tenant_id, lower(name)) tenant_id, name, lower(name)
+FROM names
+WHERE name <> '' AND lower(name) NOT IN ('unassigned', 'tbd', 'none', 'n/a', 'unknown')
+ORDER BY tenant_id, lower(name), name;
+
+INSERT INTO person_aliases (person_id, tenant_id, alias)
+SELECT id, tenant_id, normalized_name FROM people;
+
+UPDATE participants p SET person_id = pe.id
+FROM meetings m, people pe
+WHERE m.id = p.meeting_id
+  AND pe.tenant_id = m.tenant_id
+  AND pe.normalized_name = lower(btrim(regexp_replace(p.name, '\s+', ' ', 'g')));
+
+UPDATE action_items a SET assignee_person_id = pe.id
+FROM meetings m, people pe
+WHERE m.id = a.meeting_id
+  AND pe.tenant_id = m.tenant_id
+  AND pe.normalized_name = lower(btrim(regexp_replace(a.assignee, '\s+', ' ', 'g')));
+
+-- Per-person timeline lookups
+CREATE INDEX idx_participant_person_meeting ON participants(person_id, meeting_id);
+CREATE INDEX idx_action_assignee_person_due ON action_items(assignee_person_id, due_date);
@@ -0,0 +1,27 @@
+-- Meetings per sentiment and tone value, by week and month, per meeting type and per series
+CREATE TABLE summary_trend_rollups (
+    tenant_id BIGINT NOT NULL REFERENCES tenants(id),
+    granularity VARCHAR(10) NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    dimension_value VARCHAR(255) NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    bucket_start DATE NOT NULL,
+    metric_value VARCHAR(50) NOT NULL,
+    meeting_count INT NOT NULL,
+    PRIMARY KEY (tenant_id, granularity, dimension, dimension_value, metric, bucket_start, metric_value)
+);
+
+-- Range reads across all values of a dimension
+CREATE INDEX idx_trend_rollup_bucket ON summary_trend_rollups(tenant_id, granularity, dimension, metric, bucket_start);
+
+INSERT INTO summary_trend_rollups
+    (tenant_id, granularity, dimension, dimension_value, metric, bucket_start, metric_value, meeting_count)
+SELECT m.tenant_id, g.granularity, d.dimension, d.dimension_value, v.metric,
+       date_trunc(g.granularity, m.meeting_date)::date, v.metric_value, COUNT(*)
+FROM summaries s
+JOIN meetings m ON m.id = s.meeting_id
+CROSS JOIN (VALUES ('WEEK'), ('MONTH')) g(granularity)
+CROSS JOIN LATERAL (VALUES ('MEETING_TYPE', m.meeting_type), ('SERIES', m.series_name)) d(dimension, dimension_value)
+CROSS JOIN LATERAL (VALUES ('SENTIMENT', lower(btrim(s.sentiment))), ('TONE', lower(btrim(s.tone)))) v(metric, metric_value)
+WHERE d.dimension_value IS NOT NULL AND v.metric_value IS NOT NULL AND v.metric_value <> ''
+GROUP BY 1, 2, 3, 4, 5, 6, 7;
@@ -0,0 +1,30 @@
+-- Calendar heatmap: per tenant, day and meeting type, meetings held and their transcript bytes,
+-- actions created and completed that day, and open actions due that day
+CREATE MATERIALIZED VIEW daily_meeting_buckets AS
+SELECT tenant_id, day, meeting_type,
+       SUM(meetings)::int AS meetings,
+       SUM(transcript_bytes)::bigint AS transcript_bytes,
+       SUM(actions_created)::int AS actions_created,
+       SUM(actions_completed)::int AS actions_completed,
+       SUM(open_actions_due)::int AS open_actions_due
+FROM (
+    SELECT m.tenant_id, m.meeting_date::date AS day, m.meeting_type,
+           1 AS meetings, m.transcript_size AS transcript_bytes,
+           0 AS actions_created, 0 AS actions_completed, 0 AS open_actions_due
+    FROM meetings m
+    UNION ALL
+    SELECT m.tenant_id, a.created_at::date, m.meeting_type, 0, 0, 1, 0, 0
+    FROM action_items a JOIN meetings m ON m.id = a.meeting_id
+    UNION ALL
+    SELECT m.tenant_id, a.completed_at::date, m.meeting_type, 0, 0, 0, 1, 0
+    FROM action_items a JOIN meetings m ON m.id = a.meeting_id
+    WHERE a.completed_at IS NOT NULL
+    UNION ALL
+    SELECT m.tenant_id, a.due_date, m.meeting_type, 0, 0, 0, 0, 1
+    FROM action_items a JOIN meetings m ON m.id = a.meeting_id
+    WHERE a.status <> 'COMPLETED' AND a.due_date IS NOT NULL
+) events
+GROUP BY tenant_id, day, meeting_type;
+
+-- Required for REFRESH MATERIALIZED VIEW CONCURRENTLY; also serves range reads
+CREATE UNIQUE INDEX idx_daily_meeting_buckets ON daily_meeting_buckets(tenant_id, day, meeting_type);
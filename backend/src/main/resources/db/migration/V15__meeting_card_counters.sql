@@ -0,0 +1,11 @@
+-- Denormalized meeting list card fields, maintained by MeetingCardRepository
+ALTER TABLE meetings ADD COLUMN action_count INT NOT NULL DEFAULT 0;
+ALTER TABLE meetings ADD COLUMN open_action_count INT NOT NULL DEFAULT 0;
+ALTER TABLE meetings ADD COLUMN participant_count INT NOT NULL DEFAULT 0;
+ALTER TABLE meetings ADD COLUMN summary_snippet VARCHAR(240);
+
+UPDATE meetings m SET
+    action_count = (SELECT COUNT(*) FROM action_items a WHERE a.meeting_id = m.id),
+    open_action_count = (SELECT COUNT(*) FROM action_items a WHERE a.meeting_id = m.id AND a.status <> 'COMPLETED'),
+    participant_count = (SELECT COUNT(*) FROM participants p WHERE p.meeting_id = m.id),
+    summary_snippet = (SELECT left(s.summary_text, 240) FROM summaries s WHERE s.meeting_id = m.id);
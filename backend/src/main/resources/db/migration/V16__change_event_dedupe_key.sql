@@ -0,0 +1,3 @@
+-- Events raised independently by every instance (reminders) carry a key so only one is recorded
+ALTER TABLE change_events ADD COLUMN dedupe_key VARCHAR(255);
+ALTER TABLE change_events ADD CONSTRAINT uq_change_events_dedupe_key UNIQUE (dedupe_key);
@@ -0,0 +1,3 @@
+-- User ids are only unique within a tenant
+ALTER TABLE user_settings DROP CONSTRAINT user_settings_user_id_key;
+ALTER TABLE user_settings ADD CONSTRAINT uq_user_settings_tenant_user UNIQUE (tenant_id, user_id);
@@ -0,0 +1,2 @@
+-- Renewed by the instance whose analysis queue holds a PROCESSING meeting, so any instance can tell queued from abandoned
+ALTER TABLE meetings ADD COLUMN processing_heartbeat_at TIMESTAMP;
@@ -0,0 +1,2 @@
+-- The blob sweep looks up whether any meeting still references a transcript blob
+CREATE INDEX idx_meeting_content_hash ON meetings(content_hash);
@@ -0,0 +1,11 @@
+-- Rows deleted from the exported tables, so the analytics export can retract them; purged once exported
+CREATE TABLE analytics_export_deletions (
+    id BIGSERIAL PRIMARY KEY,
+    table_name VARCHAR(100) NOT NULL,
+    row_id BIGINT NOT NULL,
+    tenant_id BIGINT NOT NULL,
+    partition_date DATE NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_export_deletion_deleted_at ON analytics_export_deletions(deleted_at);
@@ -0,0 +1,29 @@
+-- V12 backfilled one person per distinct name. Apply the first-name merge PersonDirectoryService applies
+-- to new names: a person known only by a first name joins the tenant's only person whose full name starts
+-- with it, taking its aliases, participants and action items along
+CREATE TEMPORARY TABLE person_merges AS
+SELECT f.id AS from_id, min(p.id) AS to_id
+FROM people f
+JOIN people p ON p.tenant_id = f.tenant_id
+    AND left(p.normalized_name, length(f.normalized_name) + 1) = f.normalized_name || ' '
+WHERE position(' ' IN f.normalized_name) = 0
+GROUP BY f.id
+HAVING count(*) = 1;
+
+UPDATE participants p SET person_id = pm.to_id
+FROM person_merges pm
+WHERE p.person_id = pm.from_id;
+
+UPDATE action_items a SET assignee_person_id = pm.to_id
+FROM person_merges pm
+WHERE a.assignee_person_id = pm.from_id;
+
+UPDATE person_aliases pa SET person_id = pm.to_id
+FROM person_merges pm
+WHERE pa.person_id = pm.from_id;
+
+DELETE FROM people pe
+USING person_merges pm
+WHERE pe.id = pm.from_id;
+
+DROP TABLE person_merges;
@@ -0,0 +1,6 @@
+-- "My open overdue actions": a person's open items in due date order, ids included, so the lookup is an index-only scan
+CREATE INDEX idx_action_open_person_due ON action_items(assignee_person_id, due_date, id)
+    WHERE status <> 'COMPLETED';
+
+-- findByAssigneeOrderByDueDateAsc reads its rows in due date order instead of sorting them
+CREATE INDEX idx_action_assignee_due ON action_items(assignee, due_date);
@@ -0,0 +1,16 @@
+-- Content hash for duplicate upload detection
+ALTER TABLE meetings ADD COLUMN content_hash VARCHAR(64);
+
+CREATE INDEX idx_meeting_filename_hash ON meetings(original_filename, content_hash);
+
+-- Client-supplied idempotency keys for transcript uploads
+CREATE TABLE upload_idempotency_keys (
+    id BIGSERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(255) UNIQUE NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    meeting_id BIGINT REFERENCES meetings(id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_expires_at ON upload_idempotency_keys(expires_at);
@@ -0,0 +1,48 @@
+-- Tenants (teams sharing one deployment)
+CREATE TABLE tenants (
+    id BIGSERIAL PRIMARY KEY,
+    tenant_key VARCHAR(100) UNIQUE NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    scheduling_weight INT NOT NULL DEFAULT 1,
+    max_concurrent_analyses INT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CHECK (scheduling_weight > 0),
+    CHECK (max_concurrent_analyses IS NULL OR max_concurrent_analyses > 0)
+);
+
+INSERT INTO tenants (tenant_key, name) VALUES ('default', 'Default');
+
+-- Users belong to a tenant
+ALTER TABLE user_settings ADD COLUMN tenant_id BIGINT REFERENCES tenants(id);
+UPDATE user_settings SET tenant_id = (SELECT id FROM tenants WHERE tenant_key = 'default');
+ALTER TABLE user_settings ALTER COLUMN tenant_id SET NOT NULL;
+
+CREATE INDEX idx_user_settings_tenant_id ON user_settings(tenant_id);
+
+-- Meeting series are per tenant
+ALTER TABLE meeting_series ADD COLUMN tenant_id BIGINT REFERENCES tenants(id);
+UPDATE meeting_series SET tenant_id = (SELECT id FROM tenants WHERE tenant_key = 'default');
+ALTER TABLE meeting_series ALTER COLUMN tenant_id SET NOT NULL;
+ALTER TABLE meeting_series DROP CONSTRAINT meeting_series_series_name_meeting_type_key;
+ALTER TABLE meeting_series ADD CONSTRAINT uq_series_tenant_name_type UNIQUE (tenant_id, series_name, meeting_type);
+
+-- Meetings are owned by a tenant and record the uploading user
+ALTER TABLE meetings ADD COLUMN tenant_id BIGINT REFERENCES tenants(id);
+ALTER TABLE meetings ADD COLUMN uploaded_by VARCHAR(255);
+UPDATE meetings SET tenant_id = (SELECT id FROM tenants WHERE tenant_key = 'default'),
+                    uploaded_by = 'default-user';
+ALTER TABLE meetings ALTER COLUMN tenant_id SET NOT NULL;
+ALTER TABLE meetings ALTER COLUMN uploaded_by SET NOT NULL;
+
+CREATE INDEX idx_meeting_tenant_date ON meetings(tenant_id, meeting_date DESC);
+CREATE INDEX idx_meeting_tenant_status ON meetings(tenant_id, processing_status);
+DROP INDEX idx_meeting_filename_hash;
+CREATE INDEX idx_meeting_tenant_filename_hash ON meetings(tenant_id, original_filename, content_hash);
+
+-- Idempotency keys are unique per tenant
+ALTER TABLE upload_idempotency_keys ADD COLUMN tenant_id BIGINT REFERENCES tenants(id);
+UPDATE upload_idempotency_keys SET tenant_id = (SELECT id FROM tenants WHERE tenant_key = 'default');
+ALTER TABLE upload_idempotency_keys ALTER COLUMN tenant_id SET NOT NULL;
+ALTER TABLE upload_idempotency_keys DROP CONSTRAINT upload_idempotency_keys_idempotency_key_key;
+ALTER TABLE upload_idempotency_keys ADD CONSTRAINT uq_idempotency_tenant_key UNIQUE (tenant_id, idempotency_key);
@@ -0,0 +1,13 @@
+-- Incremental analytics export: last exported change timestamp per source table
+CREATE TABLE analytics_export_watermarks (
+    table_name VARCHAR(100) PRIMARY KEY,
+    watermark TIMESTAMP NOT NULL,
+    rows_exported BIGINT NOT NULL DEFAULT 0,
+    last_run_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Change scans for the exporter
+CREATE INDEX idx_meeting_updated_at ON meetings(updated_at);
+CREATE INDEX idx_action_updated_at ON action_items(updated_at);
+CREATE INDEX idx_summary_created_at ON summaries(created_at);
+CREATE INDEX idx_participant_created_at ON participants(created_at);
@@ -0,0 +1,10 @@
+-- Compression dictionaries trained per meeting type. Versions are kept so older blobs stay decodable.
+CREATE TABLE transcript_dictionaries (
+    id BIGSERIAL PRIMARY KEY,
+    meeting_type VARCHAR(50) NOT NULL,
+    version INTEGER NOT NULL,
+    dictionary BYTEA NOT NULL,
+    sample_count INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE(meeting_type, version)
+);
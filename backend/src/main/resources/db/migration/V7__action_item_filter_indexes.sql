@@ -0,0 +1,13 @@
+-- Filtered action item queries (GET /api/v1/actions/search), ordered by due date
+CREATE INDEX idx_action_assignee_status_due ON action_items(assignee, status, due_date);
+CREATE INDEX idx_action_status_due ON action_items(status, due_date);
+
+-- Open items only, so "my open / overdue actions" never reads completed rows
+CREATE INDEX idx_action_open_assignee_due ON action_items(assignee, due_date) INCLUDE (meeting_id)
+    WHERE status <> 'COMPLETED';
+CREATE INDEX idx_action_open_due ON action_items(due_date) INCLUDE (meeting_id)
+    WHERE status <> 'COMPLETED';
+
+-- Leading columns of the composites above
+DROP INDEX idx_action_assignee;
+DROP INDEX idx_action_status;
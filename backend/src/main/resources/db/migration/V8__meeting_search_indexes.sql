@@ -0,0 +1,8 @@
+-- Meeting search (GET /api/v1/meetings/search) pages by (meeting_date, id) descending
+CREATE INDEX idx_meeting_tenant_date_id ON meetings(tenant_id, meeting_date DESC, id DESC);
+CREATE INDEX idx_meeting_tenant_type_date ON meetings(tenant_id, meeting_type, meeting_date DESC, id DESC);
+CREATE INDEX idx_meeting_tenant_series_date ON meetings(tenant_id, series_name, meeting_date DESC, id DESC);
+DROP INDEX idx_meeting_tenant_date;
+
+-- Case-insensitive participant name prefix matching
+CREATE INDEX idx_participant_lower_name ON participants(lower(name) text_pattern_ops, meeting_id);
@@ -0,0 +1,2 @@
+-- Optimistic locking for action item edits, single and bulk
+ALTER TABLE action_items ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -1,19 +1,34 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { useParams } from 'react-router-dom';
 import { meetingService } from '../../services/meetingService';
 import { Meeting } from '../../types/meeting';
 import { LoadingSpinner } from '../common/LoadingSpinner';
 import { format } from 'date-fns';
 
+// Transcripts are fetched in byte ranges of this size as the reader asks for more
+const TRANSCRIPT_CHUNK_BYTES = 64 * 1024;
+
 export const MeetingDetail: React.FC = () => {
   const { id } = useParams<{ id: string }>();
   const [meeting, setMeeting] = useState<Meeting | null>(null);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [showTranscript, setShowTranscript] = useState(false);
+  const [transcript, setTranscript] = useState('');
+  const [transcriptLoaded, setTranscriptLoaded] = useState(0);
+  const [transcriptTotal, setTranscriptTotal] = useState<number | null>(null);
+  const [transcriptLoading, setTranscriptLoading] = useState(false);
+  const [transcriptError, setTranscriptError] = useState('');
+  // Streaming decoder, so multi-byte characters split across ranges decode correctly
+  const decoder = useRef(new TextDecoder('utf-8'));
 
   useEffect(() => {
     loadMeeting();
+    setTranscript('');
+    setTranscriptLoaded(0);
+    setTranscriptTotal(null);
+    setTranscriptError('');
+    decoder.current = new TextDecoder('utf-8');
   }, [id]);
 
   const loadMeeting = async () => {
@@ -30,6 +45,31 @@ export const MeetingDetail: React.FC = () => {
     }
   };
 
+  const loadTranscriptChunk = async () => {
+    if (!id || transcriptLoading) return;
+
+    try {
+      setTranscriptLoading(true);
+      const chunk = await meetingService.getTranscriptChunk(parseInt(id), transcriptLoaded, TRANSCRIPT_CHUNK_BYTES);
+      const loaded = transcriptLoaded + chunk.data.byteLength;
+      const done = loaded >= chunk.totalBytes;
+      setTranscript((text) => text + decoder.current.decode(chunk.data, { stream: !done }));
+      setTranscriptLoaded(loaded);
+      setTranscriptTotal(chunk.totalBytes);
+    } catch (err: any) {
+      setTranscriptError('Failed to load transcript');
+    } finally {
+      setTranscriptLoading(false);
+    }
+  };
+
+  const toggleTranscript = () => {
+    if (!showTranscript && transcriptTotal === null) {
+      loadTranscriptChunk();
+    }
+    setShowTranscript(!showTranscript);
+  };
+
   if (loading) {
     return (
       <div className="flex justify-center items-center min-h-[400px]">
@@ -196,7 +236,7 @@ export const MeetingDetail: React.FC = () => {
       {/* Transcript */}
       <div className="bg-white shadow rounded-lg p-6">
         <button
-          onClick={() => setShowTranscript(!showTranscript)}
+          onClick={toggleTranscript}
           className="w-full flex justify-between items-center text-left"
         >
           <h2 className="text-lg font-semibold text-gray-900">Transcript</h2>
@@ -212,9 +252,19 @@ export const MeetingDetail: React.FC = () => {
 
         {showTranscript && (
           <div className="mt-4 p-4 bg-gray-50 rounded-lg">
+            {transcriptError && <p className="text-sm text-red-600">{transcriptError}</p>}
             <pre className="text-sm text-gray-700 whitespace-pre-wrap font-mono">
-              {meeting.transcriptContent}
+              {transcript}
             </pre>
+            {transcriptLoading && <LoadingSpinner size="sm" message="Loading transcript..." />}
+            {!transcriptLoading && transcriptTotal !== null && transcriptLoaded < transcriptTotal && (
+              <button
+                onClick={loadTranscriptChunk}
+                className="mt-4 text-sm text-primary-600 hover:text-primary-700 font-medium"
+              >
+                Load more ({Math.round((transcriptLoaded / transcriptTotal) * 100)}% shown)
+              </button>
+            )}
           </div>
         )}
       </div>
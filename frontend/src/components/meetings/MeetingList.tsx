@@ -1,6 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
 import { meetingService } from '../../services/meetingService';
+import { changeFeedService } from '../../services/changeFeedService';
 import { Meeting } from '../../types/meeting';
 import { LoadingSpinner } from '../common/LoadingSpinner';
 import { format } from 'date-fns';
@@ -14,10 +15,33 @@ export const MeetingList: React.FC = () => {
     loadMeetings();
   }, []);
 
+  // Apply status changes as they are pushed instead of polling
+  useEffect(() => {
+    return changeFeedService.subscribe({
+      onMeeting: (event) => {
+        const changed = event.data as Partial<Meeting>;
+        if (changed.processingStatus === 'COMPLETED') {
+          // The summary and actions arrive with completion, so fetch the finished meeting
+          meetingService.getMeetingById(event.entityId).then((meeting) =>
+            setMeetings((current) => current.map((m) => (m.id === meeting.id ? meeting : m)))
+          );
+        }
+        setMeetings((current) => {
+          if (!current.some((m) => m.id === event.entityId)) {
+            return [changed as Meeting, ...current];
+          }
+          return current.map((m) => (m.id === event.entityId ? { ...m, ...changed } : m));
+        });
+      },
+      onReset: () => loadMeetings(),
+    });
+  }, []);
+
   const loadMeetings = async () => {
     try {
       setLoading(true);
-      const response = await meetingService.getAllMeetings(0, 20);
+      // List rows only need the card fields stored on the meeting itself
+      const response = await meetingService.getAllMeetings(0, 20, []);
       setMeetings(response.content);
     } catch (err: any) {
       setError(err.response?.data?.message || 'Failed to load meetings');
@@ -96,15 +120,16 @@ export const MeetingList: React.FC = () => {
                 </span>
               </div>
 
-              {meeting.summary && (
+              {meeting.summarySnippet && (
                 <p className="text-sm text-gray-700 mt-2 line-clamp-2">
-                  {meeting.summary.summaryText}
+                  {meeting.summarySnippet}
                 </p>
               )}
 
-              {meeting.actionItems && meeting.actionItems.length > 0 && (
+              {!!meeting.actionCount && (
                 <p className="text-xs text-gray-500 mt-2">
-                  {meeting.actionItems.length} action item{meeting.actionItems.length !== 1 ? 's' : ''}
+                  {meeting.actionCount} action item{meeting.actionCount !== 1 ? 's' : ''}
+                  {!!meeting.openActionCount && ` (${meeting.openActionCount} open)`}
                 </p>
               )}
             </Link>
@@ -0,0 +1,27 @@
+import { ChangeEvent } from '../types/api';
+
+export interface ChangeFeedHandlers {
+  onMeeting?: (event: ChangeEvent) => void;
+  onActionItem?: (event: ChangeEvent) => void;
+  // Sent when the feed cannot replay everything missed; reload from the REST API
+  onReset?: () => void;
+}
+
+const baseURL = import.meta.env.VITE_API_URL || 'http://localhost:8080';
+
+export const changeFeedService = {
+  // EventSource reconnects on its own and resumes with Last-Event-ID; call the result to close
+  subscribe: (handlers: ChangeFeedHandlers): (() => void) => {
+    const source = new EventSource(`${baseURL}/api/v1/changes`);
+
+    source.addEventListener('meeting', (message) => {
+      handlers.onMeeting?.(JSON.parse((message as MessageEvent).data));
+    });
+    source.addEventListener('action_item', (message) => {
+      handlers.onActionItem?.(JSON.parse((message as MessageEvent).data));
+    });
+    source.addEventListener('reset', () => handlers.onReset?.());
+
+    return () => source.close();
+  },
+};
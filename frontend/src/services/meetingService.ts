@@ -1,5 +1,5 @@
 import api from './api';
-import { Meeting, MeetingUploadRequest, ProcessingStatus } from '../types/meeting';
+import { Meeting, MeetingUploadRequest, ProcessingStatus, TranscriptChunk } from '../types/meeting';
 import { PageResponse } from '../types/api';
 
 export const meetingService = {
@@ -8,9 +8,9 @@ export const meetingService = {
     return response.data;
   },
 
-  getAllMeetings: async (page: number = 0, size: number = 20): Promise<PageResponse<Meeting>> => {
+  getAllMeetings: async (page: number = 0, size: number = 20, include?: string[]): Promise<PageResponse<Meeting>> => {
     const response = await api.get<PageResponse<Meeting>>('/api/v1/meetings', {
-      params: { page, size },
+      params: { page, size, include: include?.join(',') },
     });
     return response.data;
   },
@@ -20,6 +20,19 @@ export const meetingService = {
     return response.data;
   },
 
+  getTranscriptChunk: async (id: number, start: number, length: number): Promise<TranscriptChunk> => {
+    const response = await api.get<ArrayBuffer>(`/api/v1/meetings/${id}/transcript`, {
+      responseType: 'arraybuffer',
+      headers: { Range: `bytes=${start}-${start + length - 1}` },
+    });
+    // A 206 carries "bytes start-end/total"; a 200 means the whole transcript was returned
+    const contentRange = response.headers['content-range'] as string | undefined;
+    const totalBytes = contentRange
+      ? parseInt(contentRange.split('/')[1], 10)
+      : response.data.byteLength;
+    return { data: response.data, totalBytes };
+  },
+
   getProcessingStatus: async (id: number): Promise<ProcessingStatus> => {
     const response = await api.get<ProcessingStatus>(`/api/v1/meetings/${id}/processing-status`);
     return response.data;
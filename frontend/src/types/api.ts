@@ -22,3 +22,12 @@ export interface PageResponse<T> {
   size: number;
   number: number;
 }
+
+export interface ChangeEvent<T = Record<string, unknown>> {
+  id: number;
+  entityType: 'MEETING' | 'ACTION_ITEM';
+  entityId: number;
+  changeType: 'STATUS_CHANGED' | 'CREATED' | 'UPDATED' | 'REMINDER';
+  data: T;
+  createdAt: string;
+}
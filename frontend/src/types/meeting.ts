@@ -10,7 +10,11 @@ export interface Meeting {
   summary?: Summary;
   participants?: Participant[];
   actionItems?: ActionItem[];
-  transcriptContent?: string;
+  transcriptSize?: number;
+  actionCount?: number;
+  openActionCount?: number;
+  participantCount?: number;
+  summarySnippet?: string;
 }
 
 export interface Summary {
@@ -41,6 +45,11 @@ export interface MeetingUploadRequest {
   content: string;
 }
 
+export interface TranscriptChunk {
+  data: ArrayBuffer;
+  totalBytes: number;
+}
+
 export interface ProcessingStatus {
   meetingId: number;
   status: string;